@@ -2,30 +2,124 @@ package com.harsh;
 
 import com.harsh.Models.*;
 import com.harsh.controller.GameController;
+import com.harsh.diagnostics.GameFootprint;
 import com.harsh.exceptions.InvalidMoveException;
+import com.harsh.loadtest.LoadGenerator;
+import com.harsh.loadtest.LoadTestConfig;
+import com.harsh.loadtest.LoadTestReport;
+import com.harsh.perft.Perft;
+import com.harsh.perft.PerftResult;
+import com.harsh.server.GameRegistry;
+import com.harsh.server.GameServer;
+import com.harsh.strategy.SearchScaling;
+import com.harsh.strategy.SearchScalingResult;
+import com.harsh.timer.GameTimekeeper;
+import com.harsh.timer.TimingWheel;
+import com.harsh.wire.WireBenchmark;
+import com.harsh.wire.WireBenchmarkResult;
+import com.harsh.wire.WireServer;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
 import java.util.List;
 
 /**
  * Main entry point for TicTacToe Console Application
  * Supports --smoke-test mode for automated testing in CI/CD pipelines
+ * and --perft [dimension] [winLength] [depth] for game-tree counts and a nodes/second baseline
+ * and --load-test [options] to drive load against the --server HTTP API
+ * and --search-scaling [moveMs] [positions] to measure the parallel HARD search on 1-8 threads
+ * and --footprint to print the heap a game retains by board size and move count
+ * and --wire-benchmark [games] [moves] [size] to measure pipelined moves/second over the binary protocol
+ * and --bot EASY|MEDIUM|HARD to pick the console opponent, HARD by default
  */
 public class Main {
-    public static void main(String[] args) throws InvalidMoveException {
+    private static final int SERVER_THREADS = Runtime.getRuntime().availableProcessors() * 4;
+    private static final long MEBIBYTE = 1024 * 1024;
+    private static final int WIRE_LOOPS = Runtime.getRuntime().availableProcessors();
+
+    public static void main(String[] args) throws InvalidMoveException, IOException, InterruptedException {
         // Check for smoke test mode
         if (args.length > 0 && "--smoke-test".equals(args[0])) {
             runSmokeTest();
             System.exit(0);
         }
 
+        // Check for perft mode (game-tree enumeration benchmark)
+        if (args.length > 0 && "--perft".equals(args[0])) {
+            runPerft(args);
+            return;
+        }
+
+        // Check for search scaling mode (parallel HARD search on 1, 2, 4 and 8 threads)
+        if (args.length > 0 && "--search-scaling".equals(args[0])) {
+            runSearchScaling(args);
+            return;
+        }
+
+        // Check for footprint mode (retained bytes per game by board size and move count)
+        if (args.length > 0 && "--footprint".equals(args[0])) {
+            runFootprint();
+            return;
+        }
+
+        // Check for wire benchmark mode (pipelined moves over one binary protocol connection)
+        if (args.length > 0 && "--wire-benchmark".equals(args[0])) {
+            runWireBenchmark(args);
+            return;
+        }
+
+        // Check for load test mode (drives the server API and reports latency percentiles)
+        if (args.length > 0 && "--load-test".equals(args[0])) {
+            runLoadTest(args);
+            return;
+        }
+
         // Check for server mode (for Kubernetes/container orchestration)
         if (args.length > 0 && "--server".equals(args[0])) {
-            runServerMode();
+            int port = GameServer.DEFAULT_PORT;
+            int wirePort = -1;
+            // Half the heap by default, leaving the rest for request buffers and garbage
+            long memoryBudgetBytes = Runtime.getRuntime().maxMemory() / 2;
+            for (int i = 1; i < args.length; i++) {
+                String arg = args[i];
+                try {
+                    if ("--memory-budget-mb".equals(arg) || "--wire-port".equals(arg)) {
+                        if (i + 1 == args.length) {
+                            exitWithServerUsage(arg + " needs a value");
+                        }
+                        if ("--wire-port".equals(arg)) {
+                            wirePort = Integer.parseInt(args[++i]);
+                        } else {
+                            memoryBudgetBytes = Long.parseLong(args[++i]) * MEBIBYTE;
+                        }
+                    } else if (arg.startsWith("-")) {
+                        exitWithServerUsage("Unknown option " + arg);
+                    } else {
+                        port = Integer.parseInt(arg);
+                    }
+                } catch (NumberFormatException e) {
+                    exitWithServerUsage("Not a number: " + args[i]);
+                }
+            }
+            runServerMode(port, memoryBudgetBytes, wirePort);
             return;
         }
 
-        // Normal game execution
-        runNormalGame();
+        // Normal game execution, optionally against a weaker bot
+        BotDifficultyLevel botLevel = BotDifficultyLevel.HARD;
+        if (args.length > 1 && "--bot".equals(args[0])) {
+            botLevel = BotDifficultyLevel.valueOf(args[1].toUpperCase());
+        }
+        runNormalGame(botLevel);
+    }
+
+    private static void exitWithServerUsage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: --server [port] [--memory-budget-mb MiB] [--wire-port port]");
+        System.exit(2);
     }
 
     /**
@@ -76,11 +170,146 @@ public class Main {
     }
 
     /**
-     * Server mode - keeps the application running for Kubernetes/container orchestration
-     * This mode allows the container to stay alive and respond to health checks
+     * Perft mode - enumerates the game tree with the real game rules and reports
+     * node, win and draw counts together with nodes/second
+     */
+    private static void runPerft(String[] args) throws InvalidMoveException {
+        int dimension = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int winLength = args.length > 2 ? Integer.parseInt(args[2]) : dimension;
+        int depth = args.length > 3 ? Integer.parseInt(args[3]) : dimension * dimension;
+        List<Player> players = List.of(
+                new Player("X", new Symbol('X'), PlayerType.HUMAN),
+                new Player("O", new Symbol('O'), PlayerType.HUMAN)
+        );
+
+        PerftResult result = new Perft(dimension, winLength, players).run(depth);
+        System.out.println("Perft " + dimension + "x" + dimension + " win " + winLength + " depth " + depth + ": "
+                + result);
+        System.out.printf("Elapsed: %.3f s, %.0f nodes/s%n",
+                result.getElapsedNanos() / 1e9, result.getNodesPerSecond());
+    }
+
+    /**
+     * Search scaling mode - searches the same 4x4 and 5x5 positions (four in a row) with
+     * 1, 2, 4 and 8 threads and the same per-move budget, and reports time per search and depth
+     * reached; speedup is the single-thread time per search over the multi-thread one
+     */
+    private static void runSearchScaling(String[] args) {
+        long moveTimeMillis = args.length > 1 ? Long.parseLong(args[1]) : 100;
+        int positions = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        System.out.println("Search scaling on " + Runtime.getRuntime().availableProcessors() + " cores, "
+                + moveTimeMillis + " ms per search, " + positions + " positions per board");
+        for (int dimension : new int[]{4, 5}) {
+            List<SearchScalingResult> results = new SearchScaling(dimension, 4, moveTimeMillis, positions)
+                    .run(1, 2, 4, 8);
+            double baseline = results.get(0).getAverageMillis();
+            for (SearchScalingResult result : results) {
+                System.out.printf("%s speedup=%.2f%n", result,
+                        result.getAverageMillis() == 0 ? 0 : baseline / result.getAverageMillis());
+            }
+        }
+    }
+
+    /**
+     * Footprint mode - prints the bytes a game retains when empty, half full and full, for
+     * two humans and with a HARD bot in the second seat, and how many full games fit in 512 MiB
      */
-    private static void runServerMode() {
-        System.out.println("TicTacToe Application running in server mode...");
+    private static void runFootprint() {
+        List<Player> humans = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+        );
+        List<Player> withBot = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                new Bot("Bot", new Symbol('O'), PlayerType.BOT, BotDifficultyLevel.HARD)
+        );
+        System.out.printf("%5s %4s %10s %10s %10s %12s %14s%n",
+                "size", "win", "empty", "half", "full", "full+HARD", "games/512MiB");
+        int[][] boards = {{3, 3}, {4, 4}, {5, 4}, {8, 5}, {15, 5}, {19, 5}, {32, 5}, {64, 5}};
+        for (int[] board : boards) {
+            int size = board[0];
+            int winLength = board[1];
+            int cells = size * size;
+            long full = GameFootprint.estimate(size, winLength, cells, humans, false);
+            long reserve = GameFootprint.reserve(size, winLength, withBot, false) + GameRegistry.ENTRY_BYTES;
+            System.out.printf("%5d %4d %10d %10d %10d %12d %14d%n", size, winLength,
+                    GameFootprint.estimate(size, winLength, 0, humans, false),
+                    GameFootprint.estimate(size, winLength, cells / 2, humans, false),
+                    full, reserve, 512 * MEBIBYTE / reserve);
+        }
+        ((Bot) withBot.get(1)).stopPondering();
+    }
+
+    /**
+     * Wire benchmark mode - starts the binary protocol server on localhost and plays moves over
+     * one pipelined connection, keeping the given number of games in play at once
+     */
+    private static void runWireBenchmark(String[] args) throws IOException {
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        long moves = args.length > 2 ? Long.parseLong(args[2]) : 2_000_000;
+        int size = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        GameRegistry registry = GameRegistry.create(new GameController());
+        WireServer server = new WireServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), registry, 1);
+        server.start();
+        try {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+            // A short run first so both ends are compiled before the measured one
+            new WireBenchmark(address, games, size, Math.min(moves, 200_000)).run();
+            WireBenchmarkResult result = new WireBenchmark(address, games, size, moves).run();
+            System.out.println("Wire benchmark on one connection, " + size + "x" + size + " boards: " + result);
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Load test mode - spawns clients that play games through the server API and reports
+     * throughput, errors and latency percentiles. Without --target an embedded server is
+     * started on localhost for the duration of the run
+     */
+    private static void runLoadTest(String[] args) throws IOException, InterruptedException {
+        LoadTestConfig config = LoadTestConfig.fromArgs(args);
+        GameServer embeddedServer = null;
+        if (config.getTarget() == null) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+            embeddedServer = createServer(address, 0);
+            embeddedServer.start();
+            config.setTarget(URI.create("http://127.0.0.1:" + embeddedServer.getPort()));
+        }
+
+        System.out.println("Load test against " + config.getTarget() + " with " + config.getClients()
+                + " clients, " + config.getMode() + " loop"
+                + (config.getRate() > 0 ? " at " + config.getRate() + " req/s" : ""));
+        try {
+            LoadTestReport report = new LoadGenerator(config).run();
+            report.print(System.out);
+        } finally {
+            if (embeddedServer != null) {
+                embeddedServer.stop();
+            }
+        }
+    }
+
+    /**
+     * Server mode - serves the game HTTP API and keeps the application running for
+     * Kubernetes/container orchestration. New games are refused once their reserved footprint
+     * would pass the memory budget. With a wire port the binary protocol is served there too,
+     * over the same games
+     */
+    private static void runServerMode(int port, long memoryBudgetBytes, int wirePort) throws IOException {
+        GameServer server = createServer(new InetSocketAddress(port), memoryBudgetBytes);
+        server.start();
+        WireServer wireServer = null;
+        if (wirePort >= 0) {
+            wireServer = new WireServer(new InetSocketAddress(wirePort), server.getRegistry(), WIRE_LOOPS);
+            wireServer.setErrorHandler(e -> System.err.println("Wire event loop failed: " + e));
+            wireServer.start();
+        }
+        System.out.println("TicTacToe Application running in server mode on port " + server.getPort() + "...");
+        if (wireServer != null) {
+            System.out.println("Binary protocol on port " + wireServer.getPort());
+        }
+        System.out.println("Game memory budget: " + memoryBudgetBytes / MEBIBYTE + " MiB");
         System.out.println("Application is ready and waiting for requests.");
         System.out.println("Use --smoke-test to verify health.");
         
@@ -95,27 +324,48 @@ public class Main {
             }
         } catch (InterruptedException e) {
             System.out.println("Server mode interrupted, shutting down...");
+            if (wireServer != null) {
+                wireServer.stop();
+            }
+            server.stop();
             Thread.currentThread().interrupt();
         }
     }
 
+    /**
+     * Builds the HTTP game server with time controls enforced by a shared timing wheel
+     */
+    private static GameServer createServer(InetSocketAddress address, long memoryBudgetBytes) throws IOException {
+        TimingWheel timingWheel = new TimingWheel();
+        timingWheel.setErrorHandler(e -> System.err.println("Timer task failed: " + e));
+        timingWheel.start();
+        GameController gameController = new GameController(new GameTimekeeper(timingWheel));
+        return new GameServer(address, GameRegistry.create(gameController, memoryBudgetBytes), SERVER_THREADS);
+    }
+
     /**
      * Normal game execution with human player
      */
-    private static void runNormalGame() throws InvalidMoveException {
+    private static void runNormalGame(BotDifficultyLevel botLevel) throws InvalidMoveException {
         System.out.println("Welcome to TicTacToe!");
 
         GameController gameController = new GameController();
         int dimension = 3;
+        Bot bot = new Bot("Bot", new Symbol('O'), PlayerType.BOT, botLevel);
         List<Player> players = List.of(
                 new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
-                new Bot("Bot", new Symbol('O'), PlayerType.BOT, BotDifficultyLevel.EASY)
+                bot
         );
         Game game = gameController.startGame(dimension, players);
 
-        while (game.getGameState().equals(GameState.InProgress)) {
-            gameController.printBoard(game);
-            gameController.makeMove(game);
+        try {
+            while (game.getGameState().equals(GameState.InProgress)) {
+                gameController.printBoard(game);
+                gameController.makeMove(game);
+            }
+        } finally {
+            // The HARD bot keeps thinking on the player's time until told to stop
+            bot.stopPondering();
         }
         
         gameController.printBoard(game);
@@ -6,10 +6,20 @@ import java.util.List;
 public class Board {
     //Alt + Insert = for getter & setter
     private int size;
+    private int winLength;
     private List<List<Cell>> board;
 
     public Board(int size) {
+        this(size, size);
+    }
+
+    /**
+     * @throws IllegalArgumentException if winLength is not between 1 and size
+     */
+    public Board(int size, int winLength) {
+        checkWinLength(size, winLength);
         this.size = size;
+        this.winLength = winLength;
         board = new ArrayList<>();
 
         for(int i=0;i<size;i++){
@@ -30,6 +40,22 @@ public class Board {
         this.size = size;
     }
 
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public void setWinLength(int winLength) {
+        checkWinLength(size, winLength);
+        this.winLength = winLength;
+    }
+
+    private static void checkWinLength(int size, int winLength) {
+        if (winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("Win length " + winLength + " must be between 1 and the board size "
+                    + size);
+        }
+    }
+
     public List<List<Cell>> getBoard() {
         return board;
     }
@@ -38,6 +64,24 @@ public class Board {
         this.board = board;
     }
 
+    /**
+     * A board with the same stones on new cells, e.g. for a bot to think on while the game
+     * itself goes on without it.
+     */
+    public Board copy() {
+        Board copy = new Board(size, winLength);
+        for (List<Cell> row : board) {
+            for (Cell cell : row) {
+                if (cell.getCellState() != CellState.EMPTY) {
+                    Cell target = copy.board.get(cell.getRow()).get(cell.getCol());
+                    target.setPlayer(cell.getPlayer());
+                    target.setCellState(cell.getCellState());
+                }
+            }
+        }
+        return copy;
+    }
+
     public void printBoard(){
         for(int i = 0; i < size; i++){
             for(int j = 0; j < size; j++){
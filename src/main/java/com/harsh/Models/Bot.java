@@ -1,25 +1,28 @@
 package com.harsh.Models;
 
-import java.util.List;
+import com.harsh.strategy.BotPlayingStrategy;
+import com.harsh.strategy.BotPlayingStrategyFactory;
 
 public class Bot extends Player{
     private BotDifficultyLevel botDifficultyLevel;
+    private BotPlayingStrategy botPlayingStrategy;
 
     public Bot(String name, Symbol symbol, PlayerType playerType, BotDifficultyLevel botDifficultyLevel) {
         super(name, symbol, playerType);
         this.botDifficultyLevel = botDifficultyLevel;
+        this.botPlayingStrategy = BotPlayingStrategyFactory.getStrategy(botDifficultyLevel);
     }
 
     @Override
     public Move makeMove(Board board) {
-        for (List<Cell> row : board.getBoard()){
-            for (Cell cell : row){
-                if(cell.getCellState().equals(CellState.EMPTY)){
-                    return new Move(cell,this);
-                }
-            }
-        }
-        return null;
+        return botPlayingStrategy.makeMove(board, this);
+    }
+
+    /**
+     * Stops any thinking the bot does on the opponent's time. Call when the game is over.
+     */
+    public void stopPondering() {
+        botPlayingStrategy.stopPondering();
     }
 
     public BotDifficultyLevel getBotDifficultyLevel() {
@@ -27,6 +30,16 @@ public class Bot extends Player{
     }
 
     public void setBotDifficultyLevel(BotDifficultyLevel botDifficultyLevel) {
+        botPlayingStrategy.stopPondering();
         this.botDifficultyLevel = botDifficultyLevel;
+        this.botPlayingStrategy = BotPlayingStrategyFactory.getStrategy(botDifficultyLevel);
+    }
+
+    public BotPlayingStrategy getBotPlayingStrategy() {
+        return botPlayingStrategy;
+    }
+
+    public void setBotPlayingStrategy(BotPlayingStrategy botPlayingStrategy) {
+        this.botPlayingStrategy = botPlayingStrategy;
     }
 }
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class Game {
+    private long id;
     private Board board;
     private List<Player> players;
     private int nextPlayerMoveIndex;
@@ -14,9 +15,14 @@ public class Game {
     private List<Move> moves;
     private GameState gameState;
     private winningAlgorithm WinningAlgorithm;
+    private TimeControl timeControl;
 
    public Game(int dimensions, List<Player> players) {
-        this.board = new Board(dimensions);
+        this(dimensions, players, dimensions);
+   }
+
+   public Game(int dimensions, List<Player> players, int winLength) {
+        this.board = new Board(dimensions, winLength);
         this.players = players;
         this.moves = new ArrayList<>();
         this.gameState = GameState.InProgress;
@@ -25,6 +31,14 @@ public class Game {
         this.WinningAlgorithm = new winningAlgorithm();
    }
 
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
     public Board getBoard() {
         return board;
     }
@@ -73,6 +87,14 @@ public class Game {
         this.gameState = gameState;
     }
 
+    public TimeControl getTimeControl() {
+        return timeControl;
+    }
+
+    public void setTimeControl(TimeControl timeControl) {
+        this.timeControl = timeControl;
+    }
+
     public void printBoard(){
        this.board.printBoard();
     }
@@ -97,6 +119,20 @@ public class Game {
        //Move that currentplayer wants to make
        Move move = currentPlayer.makeMove(board);
 
+       applyMove(move);
+    }
+
+    /**
+     * Applies a move on behalf of the player whose turn it is, without asking the player
+     * for input or printing anything. Used by tools that drive the game rules directly.
+     */
+    public void applyMove(Move move) throws InvalidMoveException {
+       Player currentPlayer = players.get(nextPlayerMoveIndex);
+
+       if(gameState != GameState.InProgress){
+           throw new InvalidMoveException("Game is already over");
+       }
+
        if(!validateMove(move)){
            //throw exception
            throw new InvalidMoveException("Invalid move made by "+currentPlayer.getName());
@@ -119,8 +155,82 @@ public class Game {
             Winner = currentPlayer;
         }
 
-        if(moves.size()== board.getSize()*board.getSize()){
+        //A win on the last free cell is still a win, not a draw
+        if(gameState == GameState.InProgress && moves.size()== board.getSize()*board.getSize()){
             gameState = GameState.DRAW;
         }
     }
+
+    /**
+     * Rebuilds the game from a compact move list without prompting players or printing.
+     * Cells are encoded as {@code row * size + col} and are played in turn order.
+     * With verify set each move is checked for bounds, occupancy and a finished game in the same
+     * pass; otherwise the moves are trusted and only the winner and final state are worked out.
+     */
+    public void replayMoves(int[] cells, int length, boolean verify) throws InvalidMoveException {
+       int size = board.getSize();
+       if(moves.isEmpty()){
+           moves = new ArrayList<>(length);
+       }
+
+       for(int i = 0; i < length; i++){
+           Player currentPlayer = players.get(nextPlayerMoveIndex);
+           int row = cells[i] / size;
+           int col = cells[i] % size;
+
+           if(verify){
+               if(gameState != GameState.InProgress){
+                   throw new InvalidMoveException("Game is already over at move " + (i + 1));
+               }
+               if(cells[i] < 0 || cells[i] >= size * size
+                       || !board.getBoard().get(row).get(col).getCellState().equals(CellState.EMPTY)){
+                   throw new InvalidMoveException("Invalid move " + (i + 1) + " made by " + currentPlayer.getName());
+               }
+           }
+
+           Cell cellToChange = board.getBoard().get(row).get(col);
+           cellToChange.setPlayer(currentPlayer);
+           cellToChange.setCellState(CellState.FILLED);
+
+           Move finalMove = new Move(cellToChange, currentPlayer);
+           moves.add(finalMove);
+           nextPlayerMoveIndex = (nextPlayerMoveIndex + 1) % players.size();
+
+           if(gameState == GameState.InProgress && WinningAlgorithm.checkWinner(board, finalMove)){
+               gameState = GameState.ENDED;
+               Winner = currentPlayer;
+           }
+       }
+
+       if(gameState == GameState.InProgress && moves.size() == size * size){
+           gameState = GameState.DRAW;
+       }
+    }
+
+    /**
+     * Takes back the last move, so search tools can make and unmake moves on one game instead of
+     * rebuilding it. Moves are only made while the game is in progress, so it is again afterwards.
+     */
+    public void undoLastMove(){
+       Move last = moves.remove(moves.size() - 1);
+       WinningAlgorithm.undo(board, last);
+       Cell cell = last.getCell();
+       cell.setPlayer(null);
+       cell.setCellState(CellState.EMPTY);
+       nextPlayerMoveIndex = (nextPlayerMoveIndex + players.size() - 1) % players.size();
+       gameState = GameState.InProgress;
+       Winner = null;
+    }
+
+    /**
+     * Ends the game because {@code loser} ran out of time; the next player in turn order wins.
+     */
+    public void forfeit(Player loser){
+       if(gameState != GameState.InProgress){
+           return;
+       }
+       int loserIndex = players.indexOf(loser);
+       Winner = players.get((loserIndex + 1) % players.size());
+       gameState = GameState.ENDED;
+    }
 }
@@ -0,0 +1,53 @@
+package com.harsh.Models;
+
+import java.util.List;
+
+/**
+ * A finished or in-progress game stored as its rules, players and a compact move list
+ * ({@code row * dimension + col} per move, in turn order).
+ */
+public class GameRecord {
+    private int dimension;
+    private int winLength;
+    private List<Player> players;
+    private int[] moves;
+
+    public GameRecord(int dimension, int winLength, List<Player> players, int[] moves) {
+        this.dimension = dimension;
+        this.winLength = winLength;
+        this.players = players;
+        this.moves = moves;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(int dimension) {
+        this.dimension = dimension;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public void setWinLength(int winLength) {
+        this.winLength = winLength;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public void setPlayers(List<Player> players) {
+        this.players = players;
+    }
+
+    public int[] getMoves() {
+        return moves;
+    }
+
+    public void setMoves(int[] moves) {
+        this.moves = moves;
+    }
+}
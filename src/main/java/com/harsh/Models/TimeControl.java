@@ -0,0 +1,45 @@
+package com.harsh.Models;
+
+/**
+ * Time rules for a game. A limit of 0 means "not used": a per-move limit caps every single move,
+ * a clock is each player's total thinking time and grows by the increment after every move.
+ */
+public class TimeControl {
+    private long moveLimitMillis;
+    private long clockMillis;
+    private long incrementMillis;
+
+    public TimeControl(long moveLimitMillis, long clockMillis, long incrementMillis) {
+        this.moveLimitMillis = moveLimitMillis;
+        this.clockMillis = clockMillis;
+        this.incrementMillis = incrementMillis;
+    }
+
+    public long getMoveLimitMillis() {
+        return moveLimitMillis;
+    }
+
+    public void setMoveLimitMillis(long moveLimitMillis) {
+        this.moveLimitMillis = moveLimitMillis;
+    }
+
+    public long getClockMillis() {
+        return clockMillis;
+    }
+
+    public void setClockMillis(long clockMillis) {
+        this.clockMillis = clockMillis;
+    }
+
+    public long getIncrementMillis() {
+        return incrementMillis;
+    }
+
+    public void setIncrementMillis(long incrementMillis) {
+        this.incrementMillis = incrementMillis;
+    }
+
+    public boolean isTimed() {
+        return moveLimitMillis > 0 || clockMillis > 0;
+    }
+}
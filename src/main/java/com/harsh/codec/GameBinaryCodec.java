@@ -0,0 +1,141 @@
+package com.harsh.codec;
+
+import com.harsh.Models.Cell;
+import com.harsh.Models.Game;
+import com.harsh.Models.GameRecord;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.Models.PlayerType;
+import com.harsh.Models.Symbol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact big-endian binary form of a game and of a move request, for clients that do not
+ * need JSON. Same layout conventions as {@link com.harsh.spectator.SpectatorFrame}.
+ *
+ * <pre>
+ * game:         byte version, long id, short size, short winLength, byte state, byte next,
+ *               byte winner (-1 if none), byte playerCount,
+ *               playerCount * (char symbol, byte type, short nameLength, UTF-8 name),
+ *               int moveCount, moveCount * int cell (row * size + col, in turn order)
+ * move request: long gameId, short row, short col
+ * </pre>
+ * State and type are the {@link com.harsh.Models.GameState} and {@link PlayerType} ordinals.
+ */
+public class GameBinaryCodec {
+    public static final byte VERSION = 1;
+    public static final int MOVE_REQUEST_BYTES = 8 + 2 + 2;
+    private static final PlayerType[] PLAYER_TYPES = PlayerType.values();
+
+    public static void writeGame(OutputBuffer out, long id, Game game) {
+        int size = game.getBoard().getSize();
+        List<Player> players = game.getPlayers();
+        out.writeByte(VERSION)
+                .writeLong(id)
+                .writeShort(size)
+                .writeShort(game.getBoard().getWinLength())
+                .writeByte(game.getGameState().ordinal())
+                .writeByte(game.getNextPlayerMoveIndex())
+                .writeByte(game.getWinner() == null ? -1 : players.indexOf(game.getWinner()))
+                .writeByte(players.size());
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            out.writeShort(player.getSymbol().getaChar()).writeByte(player.getPlayerType().ordinal());
+            int lengthAt = out.size();
+            out.writeShort(0).writeUtf8(player.getName());
+            out.putShort(lengthAt, out.size() - lengthAt - 2);
+        }
+        List<Move> moves = game.getMoves();
+        out.writeInt(moves.size());
+        for (int i = 0; i < moves.size(); i++) {
+            Cell cell = moves.get(i).getCell();
+            out.writeInt(cell.getRow() * size + cell.getCol());
+        }
+    }
+
+    public static long readGameId(byte[] bytes, int offset) {
+        return readLong(bytes, offset + 1);
+    }
+
+    /**
+     * Reads a game written by {@link #writeGame} back as a record for
+     * {@link com.harsh.controller.GameController#replay}; state, next and winner are skipped
+     * since replaying the moves restores them.
+     */
+    public static GameRecord readGame(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        if (length < 17 || bytes[offset] != VERSION) {
+            throw new IllegalArgumentException("Not a version " + VERSION + " game");
+        }
+        int position = offset + 9;
+        int size = readShort(bytes, position);
+        int winLength = readShort(bytes, position + 2);
+        int playerCount = bytes[position + 7] & 0xFF;
+        position += 8;
+
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            checkAvailable(position + 5, end);
+            char symbol = (char) readShort(bytes, position);
+            int type = bytes[position + 2];
+            int nameLength = readShort(bytes, position + 3);
+            position += 5;
+            checkAvailable(position + nameLength, end);
+            if (type < 0 || type >= PLAYER_TYPES.length) {
+                throw new IllegalArgumentException("Unknown player type " + type);
+            }
+            String name = new String(bytes, position, nameLength, StandardCharsets.UTF_8);
+            position += nameLength;
+            players.add(new Player(name, new Symbol(symbol), PLAYER_TYPES[type]));
+        }
+
+        checkAvailable(position + 4, end);
+        int moveCount = readInt(bytes, position);
+        position += 4;
+        if (moveCount < 0 || moveCount > (end - position) / 4) {
+            throw new IllegalArgumentException("Truncated game: " + moveCount + " moves announced");
+        }
+        int[] moves = new int[moveCount];
+        for (int i = 0; i < moveCount; i++) {
+            moves[i] = readInt(bytes, position);
+            position += 4;
+        }
+        return new GameRecord(size, winLength, players, moves);
+    }
+
+    public static void writeMoveRequest(OutputBuffer out, MoveRequest request) {
+        out.writeLong(request.getGameId()).writeShort(request.getRow()).writeShort(request.getCol());
+    }
+
+    /**
+     * Reads {@link #MOVE_REQUEST_BYTES} bytes at {@code offset} into {@code request}.
+     */
+    public static MoveRequest readMoveRequest(byte[] bytes, int offset, MoveRequest request) {
+        request.setGameId(readLong(bytes, offset));
+        request.setRow((short) readShort(bytes, offset + 8));
+        request.setCol((short) readShort(bytes, offset + 10));
+        return request;
+    }
+
+    private static void checkAvailable(int needed, int end) {
+        if (needed > end) {
+            throw new IllegalArgumentException("Truncated game");
+        }
+    }
+
+    static int readShort(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+    }
+
+    static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+
+    static long readLong(byte[] bytes, int offset) {
+        return ((long) readInt(bytes, offset) << 32) | (readInt(bytes, offset + 4) & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,210 @@
+package com.harsh.codec;
+
+import com.harsh.Models.Board;
+import com.harsh.Models.Cell;
+import com.harsh.Models.CellState;
+import com.harsh.Models.Game;
+import com.harsh.Models.GameRecord;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.Models.PlayerType;
+import com.harsh.Models.Symbol;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hand-written JSON for the models, written straight into an {@link OutputBuffer}.
+ *
+ * <pre>
+ * game:   {"id":1,"size":3,"winLength":3,"state":"InProgress","next":1,"moves":1,"winner":null,
+ *          "players":[player,...],"board":board,"history":[4]}
+ * board:  {"size":3,"winLength":3,"rows":["...",".X.","..."]}   ('.' is an empty cell)
+ * player: {"name":"Player1","symbol":"X","type":"HUMAN"}
+ * move:   {"row":1,"col":1,"symbol":"X"}
+ * </pre>
+ * History lists the moves in turn order as {@code row * size + col}, like {@link GameRecord}.
+ * Loops index into the model lists instead of iterating, so writing allocates nothing.
+ */
+public class GameJsonCodec {
+    private static final byte[] GAME_ID = JsonReader.name("gameId");
+    private static final byte[] ROW = JsonReader.name("row");
+    private static final byte[] COL = JsonReader.name("col");
+    private static final byte[] SIZE = JsonReader.name("size");
+    private static final byte[] WIN_LENGTH = JsonReader.name("winLength");
+    private static final byte[] PLAYERS = JsonReader.name("players");
+    private static final byte[] HISTORY = JsonReader.name("history");
+    private static final byte[] NAME = JsonReader.name("name");
+    private static final byte[] SYMBOL = JsonReader.name("symbol");
+    private static final byte[] TYPE = JsonReader.name("type");
+    private static final char EMPTY_CELL = '.';
+
+    public static void writeGame(OutputBuffer out, long id, Game game) {
+        Board board = game.getBoard();
+        List<Player> players = game.getPlayers();
+        out.writeAscii("{\"id\":").writeDecimal(id)
+                .writeAscii(",\"size\":").writeDecimal(board.getSize())
+                .writeAscii(",\"winLength\":").writeDecimal(board.getWinLength())
+                .writeAscii(",\"state\":\"").writeAscii(game.getGameState().name())
+                .writeAscii("\",\"next\":").writeDecimal(game.getNextPlayerMoveIndex())
+                .writeAscii(",\"moves\":").writeDecimal(game.getMoves().size())
+                .writeAscii(",\"winner\":");
+        if (game.getWinner() == null) {
+            out.writeAscii("null");
+        } else {
+            out.writeJsonString(game.getWinner().getName());
+        }
+
+        out.writeAscii(",\"players\":[");
+        for (int i = 0; i < players.size(); i++) {
+            if (i > 0) {
+                out.writeByte(',');
+            }
+            writePlayer(out, players.get(i));
+        }
+        out.writeAscii("],\"board\":");
+        writeBoard(out, board);
+
+        out.writeAscii(",\"history\":[");
+        List<Move> moves = game.getMoves();
+        for (int i = 0; i < moves.size(); i++) {
+            if (i > 0) {
+                out.writeByte(',');
+            }
+            Cell cell = moves.get(i).getCell();
+            out.writeDecimal(cell.getRow() * board.getSize() + cell.getCol());
+        }
+        out.writeAscii("]}");
+    }
+
+    public static void writeBoard(OutputBuffer out, Board board) {
+        out.writeAscii("{\"size\":").writeDecimal(board.getSize())
+                .writeAscii(",\"winLength\":").writeDecimal(board.getWinLength())
+                .writeAscii(",\"rows\":[");
+        List<List<Cell>> rows = board.getBoard();
+        for (int r = 0; r < rows.size(); r++) {
+            if (r > 0) {
+                out.writeByte(',');
+            }
+            List<Cell> row = rows.get(r);
+            out.writeByte('"');
+            for (int c = 0; c < row.size(); c++) {
+                Cell cell = row.get(c);
+                if (cell.getCellState().equals(CellState.EMPTY) || cell.getPlayer() == null) {
+                    out.writeByte(EMPTY_CELL);
+                } else {
+                    out.writeJsonChar(cell.getPlayer().getSymbol().getaChar());
+                }
+            }
+            out.writeByte('"');
+        }
+        out.writeAscii("]}");
+    }
+
+    public static void writePlayer(OutputBuffer out, Player player) {
+        out.writeAscii("{\"name\":").writeJsonString(player.getName())
+                .writeAscii(",\"symbol\":").writeJsonString(player.getSymbol().getaChar())
+                .writeAscii(",\"type\":\"").writeAscii(player.getPlayerType().name())
+                .writeAscii("\"}");
+    }
+
+    public static void writeMove(OutputBuffer out, Move move) {
+        out.writeAscii("{\"row\":").writeDecimal(move.getCell().getRow())
+                .writeAscii(",\"col\":").writeDecimal(move.getCell().getCol());
+        if (move.getPlayer() != null) {
+            out.writeAscii(",\"symbol\":").writeJsonString(move.getPlayer().getSymbol().getaChar());
+        }
+        out.writeByte('}');
+    }
+
+    /**
+     * Reads {@code {"row":r,"col":c}}, optionally with {@code "gameId"}, into {@code request}.
+     * Unknown fields are skipped; row and col are required.
+     */
+    public static MoveRequest readMoveRequest(JsonReader in, MoveRequest request) {
+        boolean hasRow = false;
+        boolean hasCol = false;
+        request.setGameId(0);
+        in.beginObject();
+        while (in.nextField()) {
+            if (in.isField(ROW)) {
+                request.setRow(in.readInt());
+                hasRow = true;
+            } else if (in.isField(COL)) {
+                request.setCol(in.readInt());
+                hasCol = true;
+            } else if (in.isField(GAME_ID)) {
+                request.setGameId(in.readLong());
+            } else {
+                in.skipValue();
+            }
+        }
+        if (!hasRow || !hasCol) {
+            throw new IllegalArgumentException("Move request needs row and col");
+        }
+        return request;
+    }
+
+    /**
+     * Reads a game written by {@link #writeGame} back as a record that
+     * {@link com.harsh.controller.GameController#replay} can rebuild. Derived fields
+     * (state, next, winner, board) are skipped since replaying the history restores them.
+     */
+    public static GameRecord readGame(JsonReader in) {
+        int size = 0;
+        int winLength = 0;
+        List<Player> players = new ArrayList<>();
+        int[] history = new int[16];
+        int moveCount = 0;
+        in.beginObject();
+        while (in.nextField()) {
+            if (in.isField(SIZE)) {
+                size = in.readInt();
+            } else if (in.isField(WIN_LENGTH)) {
+                winLength = in.readInt();
+            } else if (in.isField(PLAYERS)) {
+                in.beginArray();
+                while (in.nextElement()) {
+                    players.add(readPlayer(in));
+                }
+            } else if (in.isField(HISTORY)) {
+                in.beginArray();
+                while (in.nextElement()) {
+                    if (moveCount == history.length) {
+                        history = Arrays.copyOf(history, moveCount * 2);
+                    }
+                    history[moveCount++] = in.readInt();
+                }
+            } else {
+                in.skipValue();
+            }
+        }
+        if (size <= 0 || winLength <= 0 || players.isEmpty()) {
+            throw new IllegalArgumentException("Game needs size, winLength and players");
+        }
+        return new GameRecord(size, winLength, players, Arrays.copyOf(history, moveCount));
+    }
+
+    public static Player readPlayer(JsonReader in) {
+        String name = null;
+        String symbol = null;
+        PlayerType type = PlayerType.HUMAN;
+        in.beginObject();
+        while (in.nextField()) {
+            if (in.isField(NAME)) {
+                name = in.readString();
+            } else if (in.isField(SYMBOL)) {
+                symbol = in.readString();
+            } else if (in.isField(TYPE)) {
+                type = PlayerType.valueOf(in.readString());
+            } else {
+                in.skipValue();
+            }
+        }
+        if (name == null || symbol == null || symbol.length() != 1) {
+            throw new IllegalArgumentException("Player needs a name and a one-character symbol");
+        }
+        return new Player(name, new Symbol(symbol.charAt(0)), type);
+    }
+}
@@ -0,0 +1,258 @@
+package com.harsh.codec;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pull parser over a byte array of JSON. It never builds a tree: callers walk objects and arrays
+ * in document order, match field names against pre-encoded byte constants, and read numbers
+ * straight into primitives. Only {@link #readString()} allocates.
+ *
+ * Malformed input raises {@link IllegalArgumentException} with the offset of the problem.
+ * Not thread-safe; reset and reuse one per thread.
+ */
+public final class JsonReader {
+    private byte[] bytes;
+    private int position;
+    private int end;
+    private int nameStart;
+    private int nameEnd;
+
+    public JsonReader reset(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.end = offset + length;
+        return this;
+    }
+
+    public static byte[] name(String fieldName) {
+        return fieldName.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public void beginObject() {
+        expect('{');
+    }
+
+    /**
+     * Moves to the next field of the current object and consumes its name and colon.
+     *
+     * @return false, having consumed the closing brace, when the object has no more fields
+     */
+    public boolean nextField() {
+        if (!hasNext('}')) {
+            return false;
+        }
+        expect('"');
+        nameStart = position;
+        while (position < end && bytes[position] != '"') {
+            position += bytes[position] == '\\' ? 2 : 1;
+        }
+        if (position >= end) {
+            throw error("unterminated field name");
+        }
+        nameEnd = position++;
+        expect(':');
+        return true;
+    }
+
+    /**
+     * True when the field just read by {@link #nextField()} is {@code name}.
+     */
+    public boolean isField(byte[] name) {
+        if (nameEnd - nameStart != name.length) {
+            return false;
+        }
+        for (int i = 0; i < name.length; i++) {
+            if (bytes[nameStart + i] != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void beginArray() {
+        expect('[');
+    }
+
+    /**
+     * @return false, having consumed the closing bracket, when the array has no more elements
+     */
+    public boolean nextElement() {
+        return hasNext(']');
+    }
+
+    private boolean hasNext(char close) {
+        skipWhitespace();
+        if (position < end && bytes[position] == close) {
+            position++;
+            return false;
+        }
+        if (position < end && bytes[position] == ',') {
+            position++;
+        }
+        return true;
+    }
+
+    public long readLong() {
+        skipWhitespace();
+        boolean negative = position < end && bytes[position] == '-';
+        if (negative) {
+            position++;
+        }
+        int start = position;
+        long value = 0;
+        while (position < end && bytes[position] >= '0' && bytes[position] <= '9') {
+            if (value < Long.MIN_VALUE / 10) {
+                throw error("number out of range");
+            }
+            // Accumulate negatively so Long.MIN_VALUE fits
+            long next = value * 10 - (bytes[position] - '0');
+            if (next > value) {
+                throw error("number out of range");
+            }
+            value = next;
+            position++;
+        }
+        if (position == start) {
+            throw error("number expected");
+        }
+        if (!negative) {
+            if (value == Long.MIN_VALUE) {
+                throw error("number out of range");
+            }
+            value = -value;
+        }
+        return value;
+    }
+
+    public int readInt() {
+        long value = readLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw error("number out of range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Consumes a {@code null} literal if one is next.
+     */
+    public boolean readNull() {
+        skipWhitespace();
+        if (position + 4 <= end && bytes[position] == 'n' && bytes[position + 1] == 'u'
+                && bytes[position + 2] == 'l' && bytes[position + 3] == 'l') {
+            position += 4;
+            return true;
+        }
+        return false;
+    }
+
+    public String readString() {
+        skipWhitespace();
+        expect('"');
+        int start = position;
+        boolean escaped = false;
+        while (position < end && bytes[position] != '"') {
+            if (bytes[position] == '\\') {
+                escaped = true;
+                position++;
+            }
+            position++;
+        }
+        if (position >= end) {
+            throw error("unterminated string");
+        }
+        String value = new String(bytes, start, position - start, StandardCharsets.UTF_8);
+        position++;
+        return escaped ? unescape(value) : value;
+    }
+
+    /**
+     * Skips the next value of any type, including nested objects and arrays.
+     */
+    public void skipValue() {
+        skipWhitespace();
+        if (position >= end) {
+            throw error("value expected");
+        }
+        byte first = bytes[position];
+        if (first == '"') {
+            readString();
+        } else if (first == '{') {
+            beginObject();
+            while (nextField()) {
+                skipValue();
+            }
+        } else if (first == '[') {
+            beginArray();
+            while (nextElement()) {
+                skipValue();
+            }
+        } else {
+            // Number or literal: everything up to the next delimiter
+            while (position < end && bytes[position] != ',' && bytes[position] != '}'
+                    && bytes[position] != ']' && !isWhitespace(bytes[position])) {
+                position++;
+            }
+        }
+    }
+
+    private void expect(char c) {
+        skipWhitespace();
+        if (position >= end || bytes[position] != c) {
+            throw error("'" + c + "' expected");
+        }
+        position++;
+    }
+
+    private void skipWhitespace() {
+        while (position < end && isWhitespace(bytes[position])) {
+            position++;
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException("Malformed JSON at offset " + position + ": " + message);
+    }
+
+    private String unescape(String value) {
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i + 1 >= value.length()) {
+                text.append(c);
+                continue;
+            }
+            char escape = value.charAt(++i);
+            switch (escape) {
+                case 'n':
+                    text.append('\n');
+                    break;
+                case 't':
+                    text.append('\t');
+                    break;
+                case 'r':
+                    text.append('\r');
+                    break;
+                case 'b':
+                    text.append('\b');
+                    break;
+                case 'f':
+                    text.append('\f');
+                    break;
+                case 'u':
+                    if (i + 4 >= value.length()) {
+                        throw error("bad unicode escape");
+                    }
+                    text.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                    i += 4;
+                    break;
+                default:
+                    text.append(escape);
+            }
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,44 @@
+package com.harsh.codec;
+
+/**
+ * A move asked for by a client. Mutable so one instance can be parsed into per request.
+ * The game id is 0 when the request does not carry one, e.g. when it is in the URL.
+ */
+public class MoveRequest {
+    private long gameId;
+    private int row;
+    private int col;
+
+    public MoveRequest() {
+    }
+
+    public MoveRequest(long gameId, int row, int col) {
+        this.gameId = gameId;
+        this.row = row;
+        this.col = col;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    public void setGameId(long gameId) {
+        this.gameId = gameId;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public int getCol() {
+        return col;
+    }
+
+    public void setCol(int col) {
+        this.col = col;
+    }
+}
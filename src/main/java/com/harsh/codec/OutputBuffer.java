@@ -0,0 +1,230 @@
+package com.harsh.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Growable byte buffer that codecs write into and that is reset and reused between requests,
+ * so encoding a response allocates nothing once the buffer has grown to its working size.
+ *
+ * Multi-byte integers are big-endian. Text is encoded to UTF-8 char by char, without the
+ * temporary arrays {@link String#getBytes} would create. Not thread-safe; keep one per thread.
+ */
+public final class OutputBuffer {
+    private static final byte[] DIGITS = "0123456789".getBytes();
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final byte[] MIN_LONG = String.valueOf(Long.MIN_VALUE).getBytes();
+
+    private byte[] bytes;
+    private int size;
+
+    public OutputBuffer(int initialCapacity) {
+        this.bytes = new byte[Math.max(16, initialCapacity)];
+    }
+
+    public OutputBuffer reset() {
+        size = 0;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Backing array; only the first {@link #size()} bytes are valid.
+     */
+    public byte[] array() {
+        return bytes;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+        }
+    }
+
+    public OutputBuffer writeByte(int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+        return this;
+    }
+
+    public OutputBuffer writeBytes(byte[] values) {
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, bytes, size, values.length);
+        size += values.length;
+        return this;
+    }
+
+    public OutputBuffer writeShort(int value) {
+        ensureCapacity(2);
+        bytes[size++] = (byte) (value >>> 8);
+        bytes[size++] = (byte) value;
+        return this;
+    }
+
+    public OutputBuffer writeInt(int value) {
+        ensureCapacity(4);
+        bytes[size++] = (byte) (value >>> 24);
+        bytes[size++] = (byte) (value >>> 16);
+        bytes[size++] = (byte) (value >>> 8);
+        bytes[size++] = (byte) value;
+        return this;
+    }
+
+    public OutputBuffer writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        return writeInt((int) value);
+    }
+
+    /**
+     * Overwrites two bytes already written, e.g. a length prefix once the text is written.
+     */
+    public void putShort(int position, int value) {
+        bytes[position] = (byte) (value >>> 8);
+        bytes[position + 1] = (byte) value;
+    }
+
+    /**
+     * Overwrites four bytes already written, e.g. a length prefix once the body is known.
+     */
+    public void putInt(int position, int value) {
+        bytes[position] = (byte) (value >>> 24);
+        bytes[position + 1] = (byte) (value >>> 16);
+        bytes[position + 2] = (byte) (value >>> 8);
+        bytes[position + 3] = (byte) value;
+    }
+
+    /**
+     * Writes {@code value} as ASCII decimal digits.
+     */
+    public OutputBuffer writeDecimal(long value) {
+        if (value == Long.MIN_VALUE) {
+            return writeBytes(MIN_LONG);
+        }
+        if (value < 0) {
+            writeByte('-');
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        ensureCapacity(digits);
+        for (int i = size + digits - 1; i >= size; i--) {
+            bytes[i] = DIGITS[(int) (value % 10)];
+            value /= 10;
+        }
+        size += digits;
+        return this;
+    }
+
+    /**
+     * Writes text that is known to be ASCII, such as field names and enum constants.
+     */
+    public OutputBuffer writeAscii(String text) {
+        int length = text.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            bytes[size++] = (byte) text.charAt(i);
+        }
+        return this;
+    }
+
+    public OutputBuffer writeUtf8(String text) {
+        int i = 0;
+        while (i < text.length()) {
+            i += writeUtf8Char(text, i);
+        }
+        return this;
+    }
+
+    /**
+     * Writes {@code text} as a quoted JSON string, escaping quotes, backslashes and control characters.
+     */
+    public OutputBuffer writeJsonString(String text) {
+        writeByte('"');
+        int i = 0;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                writeEscaped(c);
+                i++;
+            } else {
+                i += writeUtf8Char(text, i);
+            }
+        }
+        return writeByte('"');
+    }
+
+    public OutputBuffer writeJsonString(char c) {
+        writeByte('"');
+        return writeJsonChar(c).writeByte('"');
+    }
+
+    /**
+     * Writes one character as it appears inside a JSON string, without quotes.
+     */
+    public OutputBuffer writeJsonChar(char c) {
+        if (c == '"' || c == '\\' || c < 0x20) {
+            writeEscaped(c);
+        } else {
+            writeCodePoint(Character.isSurrogate(c) ? '?' : c);
+        }
+        return this;
+    }
+
+    private void writeEscaped(char c) {
+        if (c == '"' || c == '\\') {
+            writeByte('\\').writeByte(c);
+        } else {
+            writeAscii("\\u00").writeByte(HEX[c >> 4]).writeByte(HEX[c & 0xF]);
+        }
+    }
+
+    /**
+     * Writes the character at {@code index}, or the surrogate pair starting there.
+     *
+     * @return number of chars consumed
+     */
+    private int writeUtf8Char(String text, int index) {
+        char c = text.charAt(index);
+        if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(index + 1))) {
+            writeCodePoint(Character.toCodePoint(c, text.charAt(index + 1)));
+            return 2;
+        }
+        // A lone surrogate has no UTF-8 form
+        writeCodePoint(Character.isSurrogate(c) ? '?' : c);
+        return 1;
+    }
+
+    private void writeCodePoint(int codePoint) {
+        ensureCapacity(4);
+        if (codePoint < 0x80) {
+            bytes[size++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            bytes[size++] = (byte) (0xC0 | (codePoint >>> 6));
+            bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (codePoint < 0x10000) {
+            bytes[size++] = (byte) (0xE0 | (codePoint >>> 12));
+            bytes[size++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+            bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            bytes[size++] = (byte) (0xF0 | (codePoint >>> 18));
+            bytes[size++] = (byte) (0x80 | ((codePoint >>> 12) & 0x3F));
+            bytes[size++] = (byte) (0x80 | ((codePoint >>> 6) & 0x3F));
+            bytes[size++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+    }
+}
@@ -1,22 +1,142 @@
 package com.harsh.controller;
 
+import com.harsh.Models.Bot;
+import com.harsh.Models.Cell;
 import com.harsh.Models.Game;
+import com.harsh.Models.GameRecord;
 import com.harsh.Models.GameState;
 import com.harsh.Models.Move;
 import com.harsh.Models.Player;
+import com.harsh.Models.TimeControl;
 import com.harsh.exceptions.InvalidMoveException;
+import com.harsh.timer.GameTimekeeper;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 public class GameController {
+    private final GameTimekeeper gameTimekeeper;
+
+    public GameController() {
+        this(null);
+    }
+
+    /**
+     * @param gameTimekeeper enforces time controls of timed games; null if games are never timed
+     */
+    public GameController(GameTimekeeper gameTimekeeper) {
+        this.gameTimekeeper = gameTimekeeper;
+    }
+
+    public GameTimekeeper getGameTimekeeper() {
+        return gameTimekeeper;
+    }
+
     public Game startGame(int dimension, List<Player> players){
         //Validate Game : two player must have different symbols otherwise throw exception
 
         return new Game(dimension, players);
     }
 
+    public Game startGame(int dimension, List<Player> players, int winLength){
+        return new Game(dimension, players, winLength);
+    }
+
+    /**
+     * Starts a game whose players forfeit when they exceed the time control.
+     */
+    public Game startGame(int dimension, List<Player> players, int winLength, TimeControl timeControl){
+        if (timeControl != null && timeControl.isTimed() && gameTimekeeper == null) {
+            throw new IllegalStateException("Timed games need a GameController with a GameTimekeeper");
+        }
+        Game game = new Game(dimension, players, winLength);
+        game.setTimeControl(timeControl);
+        if (gameTimekeeper != null) {
+            gameTimekeeper.register(game);
+        }
+        return game;
+    }
+
     public void makeMove(Game game) throws InvalidMoveException {
         game.makeMove();
+        onMoveMade(game);
+    }
+
+    /**
+     * Plays the given cell for whoever is to move, e.g. a move received from a remote client.
+     */
+    public void makeMove(Game game, int row, int col) throws InvalidMoveException {
+        Player currentPlayer = game.getPlayers().get(game.getNextPlayerMoveIndex());
+        game.applyMove(new Move(new Cell(row, col), currentPlayer));
+        onMoveMade(game);
+    }
+
+    /**
+     * Lets the bot whose turn it is choose and play its move, without console output.
+     */
+    public void playBotMove(Game game) throws InvalidMoveException {
+        Player currentPlayer = game.getPlayers().get(game.getNextPlayerMoveIndex());
+        if (!(currentPlayer instanceof Bot)) {
+            throw new InvalidMoveException("It is not a bot's turn");
+        }
+        game.applyMove(currentPlayer.makeMove(game.getBoard()));
+        onMoveMade(game);
+    }
+
+    /**
+     * Stops the clocks of a game that is abandoned before it finished.
+     */
+    public void endGame(Game game) {
+        if (gameTimekeeper != null) {
+            gameTimekeeper.unregister(game);
+        }
+        stopPondering(game);
+    }
+
+    /**
+     * Stops bots of the game from thinking on the opponent's time.
+     */
+    public void stopPondering(Game game) {
+        for (Player player : game.getPlayers()) {
+            if (player instanceof Bot) {
+                ((Bot) player).stopPondering();
+            }
+        }
+    }
+
+    private void onMoveMade(Game game) {
+        if (gameTimekeeper != null) {
+            gameTimekeeper.onMove(game);
+        }
+        if (!game.getGameState().equals(GameState.InProgress)) {
+            stopPondering(game);
+        }
+    }
+
+    /**
+     * Rebuilds a game from its compact move list without console output, e.g. to restore
+     * games after a restart. With verify set an illegal move raises InvalidMoveException.
+     */
+    public Game replay(GameRecord record, boolean verify) throws InvalidMoveException {
+        Game game = new Game(record.getDimension(), record.getPlayers(), record.getWinLength());
+        game.replayMoves(record.getMoves(), record.getMoves().length, verify);
+        return game;
+    }
+
+    /**
+     * Replays many records in parallel on the common fork-join pool. The result list matches
+     * the input order; records that fail verification come back as null.
+     */
+    public List<Game> replayAll(List<GameRecord> records, boolean verify) {
+        return records.parallelStream()
+                .map(record -> {
+                    try {
+                        return replay(record, verify);
+                    } catch (InvalidMoveException e) {
+                        return null;
+                    }
+                })
+                .collect(Collectors.toList());
     }
 
     public GameState checkState(Game game){
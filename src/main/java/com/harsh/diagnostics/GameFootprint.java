@@ -0,0 +1,204 @@
+package com.harsh.diagnostics;
+
+import com.harsh.Models.Bot;
+import com.harsh.Models.Game;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.Models.PlayerType;
+import com.harsh.Models.Symbol;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Heap retained by a game, worked out from the object graph the models build rather than with
+ * an instrumentation agent. Sizes follow {@link ObjectLayout}.
+ *
+ * A game holds the Game object, a Board of {@code size} row lists of {@link com.harsh.Models.Cell}s,
+ * one Move per turn, its players and the HashMaps of its winning algorithm. A full-line game keeps
+ * per-row and per-column symbol counts, so it grows with the moves; a K-in-a-row game scans the
+ * board instead and keeps its maps empty. Bots add whatever their strategy keeps between moves.
+ *
+ * {@link #estimate} is an upper bound from the dimensions alone; {@link #measure} walks a live game.
+ */
+public class GameFootprint {
+    private static final long GAME_BYTES = ObjectLayout.object(7, 8 + 4);
+    private static final long BOARD_BYTES = ObjectLayout.object(1, 4 + 4);
+    private static final long CELL_BYTES = ObjectLayout.object(2, 4 + 4);
+    private static final long MOVE_BYTES = ObjectLayout.object(2, 0);
+    private static final long PLAYER_BYTES = ObjectLayout.object(3, 0);
+    private static final long BOT_BYTES = ObjectLayout.object(5, 0);
+    private static final long SYMBOL_BYTES = ObjectLayout.object(0, 2);
+    private static final long WINNING_ALGORITHM_BYTES = ObjectLayout.object(4, 0);
+    private static final long TIME_CONTROL_BYTES = ObjectLayout.object(0, 3 * 8);
+    /**
+     * The GameTimekeeper's clock, its map entry, the pending Timeout and its task, without
+     * the per-player array.
+     */
+    private static final long CLOCK_BYTES = ObjectLayout.object(3, 2 * 8) + ObjectLayout.object(3, 4)
+            + ObjectLayout.object(5, 8 + 1) + ObjectLayout.object(2, 8);
+
+    private static final List<Player> DEFAULT_PLAYERS = List.of(
+            new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+            new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+    );
+
+    /**
+     * Upper bound for an untimed game between two humans after {@code moveCount} moves.
+     */
+    public static long estimate(int size, int winLength, int moveCount) {
+        return estimate(size, winLength, moveCount, DEFAULT_PLAYERS, false);
+    }
+
+    /**
+     * Upper bound for a game between {@code players} after {@code moveCount} moves: every move is
+     * assumed to touch a new row and column and every line to hold every symbol. An untimed game
+     * is counted with a TimeControl in case it was given a zero one.
+     */
+    public static long estimate(int size, int winLength, int moveCount, List<Player> players, boolean timed) {
+        long bytes = GAME_BYTES + board(size) + moves(moveCount) + players(players, size, winLength)
+                + (timed ? timed(players.size()) : TIME_CONTROL_BYTES);
+
+        bytes += WINNING_ALGORITHM_BYTES;
+        if (winLength < size || moveCount == 0) {
+            return bytes + 4 * ObjectLayout.hashMap(0);
+        }
+        int symbols = Math.min(players.size(), size);
+        int lines = Math.min(size, moveCount);
+        long symbolKeys = 0;
+        for (Player player : players) {
+            symbolKeys += ObjectLayout.boxedCharacter(player.getSymbol().getaChar());
+        }
+        long line = ObjectLayout.hashMap(Math.min(symbols, moveCount)) + countEntries(symbols, size) + symbolKeys;
+        long lineKeys = 0;
+        for (int index = 0; index < lines; index++) {
+            lineKeys += ObjectLayout.boxedInteger(index);
+        }
+        bytes += 2 * (ObjectLayout.hashMap(lines) + lineKeys + lines * line);
+        bytes += 2 * line;
+        return bytes;
+    }
+
+    /**
+     * Space to set aside for a new game: the estimate once every cell is filled.
+     */
+    public static long reserve(int size, int winLength, List<Player> players, boolean timed) {
+        return estimate(size, winLength, size * size, players, timed);
+    }
+
+    /**
+     * Heap held by {@code game} now, from its actual moves. Call under the game's lock.
+     */
+    public static long measure(Game game) {
+        int size = game.getBoard().getSize();
+        int winLength = game.getBoard().getWinLength();
+        List<Player> players = game.getPlayers();
+        List<Move> moves = game.getMoves();
+        boolean timed = game.getTimeControl() != null && game.getTimeControl().isTimed();
+
+        long bytes = GAME_BYTES + board(size) + moves(moves.size())
+                + players(players, size, winLength) + (timed ? timed(players.size()) : 0);
+        if (game.getTimeControl() != null && !timed) {
+            bytes += TIME_CONTROL_BYTES;
+        }
+        return bytes + WINNING_ALGORITHM_BYTES + winningMaps(moves, size, winLength);
+    }
+
+    private static long board(int size) {
+        long bytes = BOARD_BYTES + ObjectLayout.arrayList(size);
+        bytes += size * (ObjectLayout.arrayList(size) + size * CELL_BYTES);
+        return bytes;
+    }
+
+    private static long moves(int moveCount) {
+        return ObjectLayout.arrayList(moveCount) + moveCount * MOVE_BYTES;
+    }
+
+    private static long timed(int playerCount) {
+        return TIME_CONTROL_BYTES + CLOCK_BYTES + ObjectLayout.array(playerCount, 8);
+    }
+
+    private static long players(List<Player> players, int size, int winLength) {
+        long bytes = list(players);
+        for (Player player : players) {
+            bytes += SYMBOL_BYTES + ObjectLayout.string(player.getName());
+            if (player instanceof Bot bot) {
+                bytes += BOT_BYTES + bot.getBotPlayingStrategy().estimateRetainedBytes(size, winLength);
+            } else {
+                bytes += PLAYER_BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * ArrayList, or the JDK's immutable lists: two fields up to two elements, an array above.
+     */
+    private static long list(List<?> list) {
+        if (list instanceof ArrayList) {
+            return ObjectLayout.arrayList(list.size());
+        }
+        if (list.size() <= 2) {
+            return ObjectLayout.object(2, 0);
+        }
+        return ObjectLayout.object(1, 0) + ObjectLayout.referenceArray(list.size());
+    }
+
+    /**
+     * Boxed counts in one line's map; counts above 127 are not cached.
+     */
+    private static long countEntries(int symbols, int maxCount) {
+        return symbols * ObjectLayout.boxedInteger(maxCount);
+    }
+
+    private static long winningMaps(List<Move> moves, int size, int winLength) {
+        if (winLength < size || moves.isEmpty()) {
+            return 4 * ObjectLayout.hashMap(0);
+        }
+        List<Set<Character>> rows = new ArrayList<>(size);
+        List<Set<Character>> cols = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rows.add(new HashSet<>());
+            cols.add(new HashSet<>());
+        }
+        Set<Character> leftDiagonal = new HashSet<>();
+        Set<Character> rightDiagonal = new HashSet<>();
+        for (Move move : moves) {
+            int row = move.getCell().getRow();
+            int col = move.getCell().getCol();
+            char symbol = move.getPlayer().getSymbol().getaChar();
+            rows.get(row).add(symbol);
+            cols.get(col).add(symbol);
+            if (row == col) {
+                leftDiagonal.add(symbol);
+            }
+            if (row + col == size - 1) {
+                rightDiagonal.add(symbol);
+            }
+        }
+        return lineMaps(rows, size) + lineMaps(cols, size)
+                + lineMap(leftDiagonal, size) + lineMap(rightDiagonal, size);
+    }
+
+    private static long lineMaps(List<Set<Character>> lines, int size) {
+        int touched = 0;
+        long bytes = 0;
+        for (int index = 0; index < lines.size(); index++) {
+            if (!lines.get(index).isEmpty()) {
+                touched++;
+                bytes += ObjectLayout.boxedInteger(index) + lineMap(lines.get(index), size);
+            }
+        }
+        return ObjectLayout.hashMap(touched) + bytes;
+    }
+
+    private static long lineMap(Set<Character> symbols, int size) {
+        long bytes = ObjectLayout.hashMap(symbols.size()) + countEntries(symbols.size(), size);
+        for (char symbol : symbols) {
+            bytes += ObjectLayout.boxedCharacter(symbol);
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,100 @@
+package com.harsh.diagnostics;
+
+/**
+ * Shallow sizes of objects and arrays on a 64-bit HotSpot JVM with compressed oops and compressed
+ * class pointers, the default for heaps under 32 GB: 12-byte object headers, 16-byte array
+ * headers, 4-byte references and 8-byte alignment.
+ *
+ * Used to work out footprints analytically instead of with an instrumentation agent.
+ */
+public class ObjectLayout {
+    public static final int OBJECT_HEADER = 12;
+    public static final int ARRAY_HEADER = 16;
+    public static final int REFERENCE = 4;
+    public static final int ALIGNMENT = 8;
+
+    /**
+     * ArrayList's first allocation when filled through the no-argument constructor.
+     */
+    private static final int ARRAY_LIST_DEFAULT_CAPACITY = 10;
+    private static final int HASH_MAP_DEFAULT_CAPACITY = 16;
+    private static final long HASH_MAP_BYTES = object(4, 16);
+    private static final long HASH_MAP_NODE_BYTES = object(3, 4);
+    private static final long ARRAY_LIST_BYTES = object(1, 8);
+
+    public static long align(long bytes) {
+        return (bytes + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    public static long object(int references, int primitiveBytes) {
+        return align(OBJECT_HEADER + (long) references * REFERENCE + primitiveBytes);
+    }
+
+    public static long array(long length, int elementBytes) {
+        return align(ARRAY_HEADER + length * elementBytes);
+    }
+
+    public static long referenceArray(long length) {
+        return array(length, REFERENCE);
+    }
+
+    /**
+     * Capacity of an ArrayList after {@code size} adds to one made with {@code new ArrayList<>()}.
+     */
+    public static int arrayListCapacity(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        int capacity = ARRAY_LIST_DEFAULT_CAPACITY;
+        while (capacity < size) {
+            capacity += capacity >> 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * ArrayList filled through the no-argument constructor, excluding its elements.
+     * An empty one shares the JDK's empty array.
+     */
+    public static long arrayList(int size) {
+        int capacity = arrayListCapacity(size);
+        return ARRAY_LIST_BYTES + (capacity == 0 ? 0 : referenceArray(capacity));
+    }
+
+    /**
+     * HashMap made with {@code new HashMap<>()} holding {@code entries} mappings, excluding
+     * keys and values. An empty one has no table yet.
+     */
+    public static long hashMap(int entries) {
+        if (entries == 0) {
+            return HASH_MAP_BYTES;
+        }
+        int capacity = HASH_MAP_DEFAULT_CAPACITY;
+        while (entries > capacity * 3 / 4) {
+            capacity <<= 1;
+        }
+        return HASH_MAP_BYTES + referenceArray(capacity) + entries * HASH_MAP_NODE_BYTES;
+    }
+
+    /**
+     * A boxed Integer, or nothing when {@code Integer.valueOf} serves it from its cache.
+     */
+    public static long boxedInteger(int value) {
+        return value >= -128 && value <= 127 ? 0 : object(0, 4);
+    }
+
+    public static long boxedCharacter(char value) {
+        return value <= 127 ? 0 : object(0, 2);
+    }
+
+    /**
+     * A String and its byte array, assuming Latin-1 storage when every char fits in a byte.
+     */
+    public static long string(String value) {
+        boolean latin1 = true;
+        for (int i = 0; i < value.length() && latin1; i++) {
+            latin1 = value.charAt(i) <= 0xFF;
+        }
+        return object(1, 4 + 1 + 1) + array(value.length(), latin1 ? 1 : 2);
+    }
+}
@@ -0,0 +1,12 @@
+package com.harsh.exceptions;
+
+/**
+ * Thrown when starting a game would take the server's games past their memory budget.
+ */
+public class MemoryBudgetExceededException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public MemoryBudgetExceededException(String message) {
+        super(message);
+    }
+}
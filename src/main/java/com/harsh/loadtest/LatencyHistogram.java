@@ -0,0 +1,94 @@
+package com.harsh.loadtest;
+
+/**
+ * Log-linear latency histogram in microseconds with about 1.5% relative precision.
+ *
+ * Values below 128 get their own bucket; above that each power of two is split into 64 buckets.
+ * Not thread-safe: every load client records into its own histogram and they are merged at the end.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxValue;
+
+    public void record(long valueMicros) {
+        long value = Math.max(0, valueMicros);
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, value);
+    }
+
+    /**
+     * Records a latency observed by a client that waits for each response before sending the next
+     * request at a fixed interval. A stall longer than the interval hides the requests that would
+     * have been sent meanwhile (coordinated omission); they are backfilled here with the latencies
+     * they would have seen, as HdrHistogram does.
+     */
+    public void recordWithExpectedInterval(long valueMicros, long expectedIntervalMicros) {
+        record(valueMicros);
+        if (expectedIntervalMicros <= 0) {
+            return;
+        }
+        for (long missed = valueMicros - expectedIntervalMicros; missed >= expectedIntervalMicros;
+                missed -= expectedIntervalMicros) {
+            record(missed);
+        }
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        maxValue = Math.max(maxValue, other.maxValue);
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public long getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Value at the given percentile (0-100), reported as the upper bound of its bucket.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(maxValue, highestValueInBucket(i));
+            }
+        }
+        return maxValue;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
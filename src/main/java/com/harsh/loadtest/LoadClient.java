@@ -0,0 +1,211 @@
+package com.harsh.loadtest;
+
+import com.harsh.Models.Bot;
+import com.harsh.Models.Game;
+import com.harsh.Models.GameState;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.Models.PlayerType;
+import com.harsh.Models.Symbol;
+import com.harsh.exceptions.InvalidMoveException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One simulated player pair. It creates a game on the server, plays both sides with bots
+ * on a local mirror of the game, deletes the game once it is over and starts the next one.
+ * Every HTTP call is one request in the statistics.
+ *
+ * A game whose move fails is deleted like a finished one rather than left on the server, and
+ * so is the game still in play when the run ends.
+ */
+class LoadClient implements Runnable {
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\":(\\d+)");
+
+    private final HttpClient httpClient;
+    private final LoadTestConfig config;
+    private final long startNanos;
+    private final long endNanos;
+    private final long intervalNanos;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private long gameId = -1;
+    private Game mirror;
+    private boolean deletePending;
+    private long requests;
+    private long moves;
+    private long gamesCompleted;
+    private long errors;
+
+    LoadClient(HttpClient httpClient, LoadTestConfig config, long startNanos, long endNanos, long intervalNanos) {
+        this.httpClient = httpClient;
+        this.config = config;
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+        this.intervalNanos = intervalNanos;
+    }
+
+    @Override
+    public void run() {
+        long next = startNanos;
+        while (!Thread.currentThread().isInterrupted()) {
+            if (intervalNanos > 0) {
+                long wait = next - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            long sent = System.nanoTime();
+            if (sent >= endNanos) {
+                break;
+            }
+            // In open-loop mode latency counts from when the request should have gone out
+            long latencyStart = config.getMode() == LoadMode.OPEN && intervalNanos > 0 ? next : sent;
+
+            step();
+            requests++;
+
+            long done = System.nanoTime();
+            long latencyMicros = (done - latencyStart) / 1000;
+            if (config.getMode() == LoadMode.CLOSED) {
+                histogram.recordWithExpectedInterval(latencyMicros, intervalNanos / 1000);
+            } else {
+                histogram.record(latencyMicros);
+            }
+
+            next += intervalNanos;
+            if (config.getMode() == LoadMode.CLOSED) {
+                next = Math.max(next, done);
+            }
+        }
+        abandonGame();
+    }
+
+    private void step() {
+        try {
+            if (deletePending) {
+                send("DELETE", "/games/" + gameId, 204);
+                deletePending = false;
+                gameId = -1;
+            } else if (gameId < 0) {
+                createGame();
+            } else {
+                playMove();
+            }
+        } catch (IOException | InvalidMoveException | IllegalStateException e) {
+            errors++;
+            stopMirrorBots();
+            if (deletePending) {
+                // The DELETE itself failed; the server drops the game on its own if it can
+                deletePending = false;
+                gameId = -1;
+            } else if (gameId >= 0) {
+                deletePending = true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void createGame() throws IOException, InterruptedException {
+        String body = send("POST", "/games?size=" + config.getDimension(), 201);
+        Matcher matcher = ID_PATTERN.matcher(body);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No game id in response: " + body);
+        }
+        gameId = Long.parseLong(matcher.group(1));
+        List<Player> bots = List.of(
+                new Bot("LoadBotX", new Symbol('X'), PlayerType.BOT, config.getDifficulty()),
+                new Bot("LoadBotO", new Symbol('O'), PlayerType.BOT, config.getDifficulty())
+        );
+        mirror = new Game(config.getDimension(), bots);
+    }
+
+    private void playMove() throws IOException, InterruptedException, InvalidMoveException {
+        Player current = mirror.getPlayers().get(mirror.getNextPlayerMoveIndex());
+        Move move = current.makeMove(mirror.getBoard());
+        int row = move.getCell().getRow();
+        int col = move.getCell().getCol();
+
+        send("POST", "/games/" + gameId + "/moves?row=" + row + "&col=" + col, 200);
+        mirror.applyMove(move);
+        moves++;
+        if (mirror.getGameState() != GameState.InProgress) {
+            gamesCompleted++;
+            stopMirrorBots();
+            deletePending = true;
+        }
+    }
+
+    /**
+     * Deletes the game left in play when the run ends, outside the statistics.
+     */
+    private void abandonGame() {
+        stopMirrorBots();
+        if (gameId < 0) {
+            return;
+        }
+        try {
+            send("DELETE", "/games/" + gameId, 204);
+        } catch (IOException e) {
+            // The server is gone or dropped the game already
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        gameId = -1;
+        deletePending = false;
+    }
+
+    /**
+     * HARD mirror bots ponder after each move until stopped.
+     */
+    private void stopMirrorBots() {
+        if (mirror == null) {
+            return;
+        }
+        for (Player player : mirror.getPlayers()) {
+            if (player instanceof Bot bot) {
+                bot.stopPondering();
+            }
+        }
+    }
+
+    private String send(String method, String path, int expectedStatus) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.getTarget() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IOException("Unexpected status " + response.statusCode() + " for " + method + " " + path);
+        }
+        return response.body();
+    }
+
+    LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    long getRequests() {
+        return requests;
+    }
+
+    long getMoves() {
+        return moves;
+    }
+
+    long getGamesCompleted() {
+        return gamesCompleted;
+    }
+
+    long getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,59 @@
+package com.harsh.loadtest;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the game server's HTTP API with a number of concurrent clients and collects
+ * throughput, error counts and latency percentiles.
+ *
+ * With a target rate the load is split evenly across clients and their start times are staggered.
+ * Open-loop runs keep that schedule no matter how slow the server is and measure latency from the
+ * scheduled send time; closed-loop runs wait for each response and backfill the requests a stall
+ * would have hidden. Both ways the percentiles are corrected for coordinated omission.
+ */
+public class LoadGenerator {
+    private final LoadTestConfig config;
+
+    public LoadGenerator(LoadTestConfig config) {
+        if (config.getTarget() == null) {
+            throw new IllegalArgumentException("Load test needs a target URL");
+        }
+        if (config.getMode() == LoadMode.OPEN && config.getRate() <= 0) {
+            throw new IllegalArgumentException("Open-loop mode needs a target rate");
+        }
+        this.config = config;
+    }
+
+    public LoadTestReport run() throws InterruptedException {
+        int clientCount = config.getClients();
+        long intervalNanos = config.getRate() > 0 ? (long) (clientCount * 1e9 / config.getRate()) : 0;
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        long start = System.nanoTime();
+        long end = start + config.getDuration().toNanos();
+        List<LoadClient> clients = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(clientCount);
+        for (int i = 0; i < clientCount; i++) {
+            long offset = intervalNanos * i / clientCount;
+            LoadClient client = new LoadClient(httpClient, config, start + offset, end, intervalNanos);
+            clients.add(client);
+            executor.execute(client);
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(config.getDuration().toMillis() + 30_000, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+
+        LoadTestReport report = new LoadTestReport();
+        report.setElapsedNanos(System.nanoTime() - start);
+        for (LoadClient client : clients) {
+            report.add(client);
+        }
+        return report;
+    }
+}
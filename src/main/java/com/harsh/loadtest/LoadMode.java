@@ -0,0 +1,8 @@
+package com.harsh.loadtest;
+
+public enum LoadMode {
+    // Requests are sent on a fixed schedule regardless of responses; latency counts from the scheduled time
+    OPEN,
+    // Each client waits for a response before its next request, optionally paced to the target rate
+    CLOSED
+}
@@ -0,0 +1,110 @@
+package com.harsh.loadtest;
+
+import com.harsh.Models.BotDifficultyLevel;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Settings for a load test run, parsed from {@code --load-test} command line flags:
+ * {@code --target URL --clients N --duration SECONDS --rate REQUESTS_PER_SECOND --mode open|closed
+ * --size N --difficulty EASY|MEDIUM|HARD}. Without a target an embedded server is started on localhost.
+ */
+public class LoadTestConfig {
+    private URI target;
+    private int clients = 8;
+    private Duration duration = Duration.ofSeconds(10);
+    private double rate;
+    private LoadMode mode = LoadMode.CLOSED;
+    private int dimension = 3;
+    private BotDifficultyLevel difficulty = BotDifficultyLevel.EASY;
+
+    public static LoadTestConfig fromArgs(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (int i = 1; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--target":
+                    config.setTarget(URI.create(value));
+                    break;
+                case "--clients":
+                    config.setClients(Integer.parseInt(value));
+                    break;
+                case "--duration":
+                    config.setDuration(Duration.ofSeconds(Long.parseLong(value)));
+                    break;
+                case "--rate":
+                    config.setRate(Double.parseDouble(value));
+                    break;
+                case "--mode":
+                    config.setMode(LoadMode.valueOf(value.toUpperCase()));
+                    break;
+                case "--size":
+                    config.setDimension(Integer.parseInt(value));
+                    break;
+                case "--difficulty":
+                    config.setDifficulty(BotDifficultyLevel.valueOf(value.toUpperCase()));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown load test option: " + args[i]);
+            }
+        }
+        return config;
+    }
+
+    public URI getTarget() {
+        return target;
+    }
+
+    public void setTarget(URI target) {
+        this.target = target;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public void setClients(int clients) {
+        this.clients = clients;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public void setDuration(Duration duration) {
+        this.duration = duration;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public LoadMode getMode() {
+        return mode;
+    }
+
+    public void setMode(LoadMode mode) {
+        this.mode = mode;
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(int dimension) {
+        this.dimension = dimension;
+    }
+
+    public BotDifficultyLevel getDifficulty() {
+        return difficulty;
+    }
+
+    public void setDifficulty(BotDifficultyLevel difficulty) {
+        this.difficulty = difficulty;
+    }
+}
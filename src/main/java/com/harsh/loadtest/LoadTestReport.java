@@ -0,0 +1,65 @@
+package com.harsh.loadtest;
+
+import java.io.PrintStream;
+
+/**
+ * Totals of a load test run, merged from all clients.
+ */
+public class LoadTestReport {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private long requests;
+    private long moves;
+    private long gamesCompleted;
+    private long errors;
+    private long elapsedNanos;
+
+    void add(LoadClient client) {
+        histogram.add(client.getHistogram());
+        requests += client.getRequests();
+        moves += client.getMoves();
+        gamesCompleted += client.getGamesCompleted();
+        errors += client.getErrors();
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public LatencyHistogram getHistogram() {
+        return histogram;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getGamesCompleted() {
+        return gamesCompleted;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getRequestsPerSecond() {
+        return elapsedNanos == 0 ? 0 : requests * 1e9 / elapsedNanos;
+    }
+
+    public void print(PrintStream out) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("Duration: %.1f s%n", seconds);
+        out.printf("Requests: %d (%.0f req/s), moves: %d (%.0f moves/s), games completed: %d%n",
+                requests, getRequestsPerSecond(), moves, seconds == 0 ? 0 : moves / seconds, gamesCompleted);
+        out.printf("Errors: %d%n", errors);
+        out.printf("Latency ms: p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
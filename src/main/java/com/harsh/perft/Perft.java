@@ -0,0 +1,166 @@
+package com.harsh.perft;
+
+import com.harsh.Models.Cell;
+import com.harsh.Models.CellState;
+import com.harsh.Models.Game;
+import com.harsh.Models.GameState;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.exceptions.InvalidMoveException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Exhaustive game-tree enumeration ("perft") over the real {@link Game} rules.
+ * Moves are made with {@link Game#applyMove} and taken back with {@link Game#undoLastMove}, so
+ * the counts validate Board and winningAlgorithm exactly as they are used in play.
+ * The top plies of the tree are split into fork-join tasks, the rest is searched sequentially.
+ * Each task rebuilds its position once by replaying its move path into a fresh game and then
+ * makes and unmakes every move below it on that one game.
+ */
+public class Perft {
+    private static final int DEFAULT_SPLIT_PLIES = 2;
+
+    private final int dimension;
+    private final int winLength;
+    private final List<Player> players;
+    private final ForkJoinPool pool;
+    private final int splitPlies;
+
+    public Perft(int dimension, List<Player> players) {
+        this(dimension, dimension, players);
+    }
+
+    /**
+     * @param winLength stones in a row that win, e.g. 3 on a 4x4 board
+     */
+    public Perft(int dimension, int winLength, List<Player> players) {
+        this(dimension, winLength, players, ForkJoinPool.commonPool(), DEFAULT_SPLIT_PLIES);
+    }
+
+    public Perft(int dimension, int winLength, List<Player> players, ForkJoinPool pool, int splitPlies) {
+        this.dimension = dimension;
+        this.winLength = winLength;
+        this.players = players;
+        this.pool = pool;
+        this.splitPlies = splitPlies;
+    }
+
+    /**
+     * Enumerates every line of play up to {@code depth} plies after the given start position.
+     *
+     * @param startMoves cells already played, encoded as {@code row * dimension + col}
+     */
+    public PerftResult run(int[] startMoves, int depth) throws InvalidMoveException {
+        int[] path = Arrays.copyOf(startMoves, startMoves.length + depth);
+        Game root = replay(path, startMoves.length);
+
+        long start = System.nanoTime();
+        PerftResult result = depth <= 0 || root.getGameState() != GameState.InProgress
+                ? new PerftResult(players.size())
+                : pool.invoke(new PerftTask(path, startMoves.length, depth, 0));
+        result.setElapsedNanos(System.nanoTime() - start);
+        return result;
+    }
+
+    public PerftResult run(int depth) throws InvalidMoveException {
+        return run(new int[0], depth);
+    }
+
+    private Game replay(int[] path, int length) throws InvalidMoveException {
+        Game game = new Game(dimension, players, winLength);
+        game.replayMoves(path, length, true);
+        return game;
+    }
+
+    private static boolean isEmpty(Game game, int cell) {
+        int size = game.getBoard().getSize();
+        return game.getBoard().getBoard().get(cell / size).get(cell % size).getCellState() == CellState.EMPTY;
+    }
+
+    private void play(Game game, int cell) throws InvalidMoveException {
+        Player player = game.getPlayers().get(game.getNextPlayerMoveIndex());
+        game.applyMove(new Move(new Cell(cell / dimension, cell % dimension), player));
+    }
+
+    /**
+     * Counts {@code child} and reports whether the search should continue below it.
+     */
+    private boolean classify(Game child, PerftResult result) {
+        result.addNode();
+        if (child.getGameState() == GameState.ENDED) {
+            result.addWin(players.indexOf(child.getWinner()));
+            return false;
+        }
+        if (child.getGameState() == GameState.DRAW) {
+            result.addDraw();
+            return false;
+        }
+        return true;
+    }
+
+    private void search(Game node, int depth, PerftResult result) throws InvalidMoveException {
+        for (int cell = 0; cell < dimension * dimension; cell++) {
+            if (!isEmpty(node, cell)) {
+                continue;
+            }
+            play(node, cell);
+            if (classify(node, result) && depth > 1) {
+                search(node, depth - 1, result);
+            }
+            node.undoLastMove();
+        }
+    }
+
+    private class PerftTask extends RecursiveTask<PerftResult> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] path;
+        private final int length;
+        private final int depth;
+        private final int ply;
+
+        PerftTask(int[] path, int length, int depth, int ply) {
+            this.path = path;
+            this.length = length;
+            this.depth = depth;
+            this.ply = ply;
+        }
+
+        @Override
+        protected PerftResult compute() {
+            PerftResult result = new PerftResult(players.size());
+            try {
+                Game node = replay(path, length);
+                if (ply < splitPlies) {
+                    List<PerftTask> subtasks = new ArrayList<>();
+                    for (int cell = 0; cell < dimension * dimension; cell++) {
+                        if (!isEmpty(node, cell)) {
+                            continue;
+                        }
+                        play(node, cell);
+                        if (classify(node, result) && depth > 1) {
+                            int[] childPath = path.clone();
+                            childPath[length] = cell;
+                            subtasks.add(new PerftTask(childPath, length + 1, depth - 1, ply + 1));
+                        }
+                        node.undoLastMove();
+                    }
+                    invokeAll(subtasks);
+                    for (PerftTask subtask : subtasks) {
+                        result.add(subtask.join());
+                    }
+                } else {
+                    search(node, depth, result);
+                }
+            } catch (InvalidMoveException e) {
+                throw new IllegalStateException("Perft generated an illegal move", e);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.harsh.perft;
+
+import java.util.Arrays;
+
+/**
+ * Counts produced by a {@link Perft} run.
+ * Nodes are all positions reached below the start position, games are terminal positions.
+ */
+public class PerftResult {
+    private long nodes;
+    private long draws;
+    private final long[] wins;
+    private long elapsedNanos;
+
+    public PerftResult(int playerCount) {
+        this.wins = new long[playerCount];
+    }
+
+    void addNode() {
+        nodes++;
+    }
+
+    void addDraw() {
+        draws++;
+    }
+
+    void addWin(int playerIndex) {
+        wins[playerIndex]++;
+    }
+
+    void add(PerftResult other) {
+        nodes += other.nodes;
+        draws += other.draws;
+        for (int i = 0; i < wins.length; i++) {
+            wins[i] += other.wins[i];
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getWins(int playerIndex) {
+        return wins[playerIndex];
+    }
+
+    public long getGames() {
+        return draws + Arrays.stream(wins).sum();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "nodes=" + nodes + " games=" + getGames() + " wins=" + Arrays.toString(wins) + " draws=" + draws;
+    }
+}
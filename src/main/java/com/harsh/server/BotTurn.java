@@ -0,0 +1,32 @@
+package com.harsh.server;
+
+import com.harsh.Models.Board;
+import com.harsh.Models.Bot;
+
+/**
+ * A bot's turn taken out of its game's lock: the bot, a copy of the board for it to think on,
+ * and the move count the game must still have when its choice is played.
+ */
+public class BotTurn {
+    private final Bot bot;
+    private final Board board;
+    private final int moveCount;
+
+    BotTurn(Bot bot, Board board, int moveCount) {
+        this.bot = bot;
+        this.board = board;
+        this.moveCount = moveCount;
+    }
+
+    public Bot getBot() {
+        return bot;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+}
@@ -0,0 +1,271 @@
+package com.harsh.server;
+
+import com.harsh.Models.Bot;
+import com.harsh.Models.BotDifficultyLevel;
+import com.harsh.Models.Game;
+import com.harsh.Models.GameState;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.Models.PlayerType;
+import com.harsh.Models.Symbol;
+import com.harsh.Models.TimeControl;
+import com.harsh.controller.GameController;
+import com.harsh.diagnostics.GameFootprint;
+import com.harsh.diagnostics.ObjectLayout;
+import com.harsh.exceptions.InvalidMoveException;
+import com.harsh.exceptions.MemoryBudgetExceededException;
+import com.harsh.timer.GameTimekeeper;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Live games hosted by the server, keyed by id.
+ * The first seat is a remote human player whose moves arrive through the API; the second is
+ * either another remote player or a bot that answers every move. A bot thinks on a copy of the
+ * board without holding the game's lock, so clocks and other readers of the game are not held up
+ * for its move time.
+ * When the controller enforces time controls, finished games are dropped after a retention
+ * period so players who never come back do not hold memory forever.
+ *
+ * With a memory budget set, every game reserves its {@link GameFootprint#reserve full-board
+ * footprint} when it is created and gives it back when it is removed; a game that would not fit
+ * is refused with {@link MemoryBudgetExceededException} instead of risking the heap.
+ */
+public class GameRegistry {
+    public static final long FINISHED_GAME_RETENTION_MILLIS = 60_000;
+    /**
+     * The games map's node and boxed id for one game.
+     */
+    public static final long ENTRY_BYTES = ObjectLayout.object(3, 4) + ObjectLayout.object(0, 8);
+
+    private final ConcurrentHashMap<Long, Game> games = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final GameController gameController;
+    private volatile long memoryBudgetBytes;
+    private volatile LongConsumer removalListener = id -> { };
+    private volatile BiConsumer<Game, Move> moveListener = (game, move) -> { };
+
+    public static GameRegistry create(GameController gameController) {
+        return create(gameController, 0);
+    }
+
+    /**
+     * Creates a registry and, when the controller keeps clocks, has it drop games that time out.
+     *
+     * @param memoryBudgetBytes most bytes live games may reserve, or 0 for no limit
+     */
+    public static GameRegistry create(GameController gameController, long memoryBudgetBytes) {
+        GameRegistry registry = new GameRegistry(gameController, memoryBudgetBytes);
+        GameTimekeeper timekeeper = gameController.getGameTimekeeper();
+        if (timekeeper != null) {
+            timekeeper.setTimeoutListener(game -> {
+                gameController.stopPondering(game);
+                registry.scheduleRemoval(game.getId());
+            });
+        }
+        return registry;
+    }
+
+    private GameRegistry(GameController gameController, long memoryBudgetBytes) {
+        this.gameController = gameController;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    public long createGame(int dimension, int winLength) {
+        return createGame(dimension, winLength, null);
+    }
+
+    public long createGame(int dimension, int winLength, TimeControl timeControl) {
+        return createGame(dimension, winLength, timeControl, null);
+    }
+
+    /**
+     * @param botLevel difficulty of the bot in the second seat, or null for a second human
+     * @throws MemoryBudgetExceededException if the game's footprint does not fit the budget
+     */
+    public long createGame(int dimension, int winLength, TimeControl timeControl, BotDifficultyLevel botLevel) {
+        Player second = botLevel == null
+                ? new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+                : new Bot("Bot", new Symbol('O'), PlayerType.BOT, botLevel);
+        List<Player> players = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                second
+        );
+        long reserved = reservation(dimension, winLength, players, timeControl);
+        reserve(reserved);
+        Game game;
+        try {
+            game = gameController.startGame(dimension, players, winLength, timeControl);
+        } catch (RuntimeException e) {
+            reservedBytes.addAndGet(-reserved);
+            throw e;
+        }
+        long id = nextId.getAndIncrement();
+        game.setId(id);
+        games.put(id, game);
+        return id;
+    }
+
+    public Game getGame(long id) {
+        return games.get(id);
+    }
+
+    public Game removeGame(long id) {
+        Game game = games.remove(id);
+        if (game != null) {
+            reservedBytes.addAndGet(-reservation(game.getBoard().getSize(), game.getBoard().getWinLength(),
+                    game.getPlayers(), game.getTimeControl()));
+            gameController.endGame(game);
+            synchronized (game) {
+                removalListener.accept(id);
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Called with the id of every game that leaves the registry, under the game's lock and after
+     * it can no longer be looked up.
+     */
+    public void setRemovalListener(LongConsumer removalListener) {
+        this.removalListener = removalListener;
+    }
+
+    /**
+     * Called with every move played through {@link #playMove} and {@link #playBotTurn}, under
+     * the game's lock and in move order.
+     */
+    public void setMoveListener(BiConsumer<Game, Move> moveListener) {
+        this.moveListener = moveListener;
+    }
+
+    /**
+     * Plays a remote player's move. Refused while a bot is to move, as that bot may be thinking
+     * with the lock released.
+     *
+     * @return the bot's turn that follows, to be finished with {@link #playBotTurn}, or null
+     */
+    public BotTurn playMove(Game game, int row, int col) throws InvalidMoveException {
+        synchronized (game) {
+            if (game.getGameState() == GameState.InProgress
+                    && game.getPlayers().get(game.getNextPlayerMoveIndex()) instanceof Bot) {
+                throw new InvalidMoveException("It is the bot's turn");
+            }
+            gameController.makeMove(game, row, col);
+            moveListener.accept(game, game.getMoves().get(game.getMoves().size() - 1));
+            if (game.getGameState() != GameState.InProgress) {
+                scheduleRemoval(game.getId());
+                return null;
+            }
+            if (game.getPlayers().get(game.getNextPlayerMoveIndex()) instanceof Bot bot) {
+                return new BotTurn(bot, game.getBoard().copy(), game.getMoves().size());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Lets the bot choose its move on the turn's board copy without holding the game's lock, then
+     * plays it unless the game moved on meanwhile: it ran out of time, ended or was deleted.
+     *
+     * @return the cell the bot played as row * size + col, or -1 if the game moved on
+     * @throws InvalidMoveException if the bot chose no move or an illegal one
+     */
+    public int playBotTurn(Game game, BotTurn turn) throws InvalidMoveException {
+        Bot bot = turn.getBot();
+        Move choice = bot.makeMove(turn.getBoard());
+        synchronized (game) {
+            if (games.get(game.getId()) == game && game.getGameState() == GameState.InProgress
+                    && game.getMoves().size() == turn.getMoveCount()
+                    && game.getPlayers().get(game.getNextPlayerMoveIndex()) == bot) {
+                if (choice == null) {
+                    throw new InvalidMoveException("Bot found no move");
+                }
+                int row = choice.getCell().getRow();
+                int col = choice.getCell().getCol();
+                gameController.makeMove(game, row, col);
+                moveListener.accept(game, game.getMoves().get(game.getMoves().size() - 1));
+                if (game.getGameState() != GameState.InProgress) {
+                    scheduleRemoval(game.getId());
+                }
+                return row * game.getBoard().getSize() + col;
+            }
+        }
+        // Whoever ended the game stopped the bot before this move started its pondering
+        bot.stopPondering();
+        return -1;
+    }
+
+    /**
+     * Drops a finished game after the retention period, if time controls are enforced.
+     */
+    public void scheduleRemoval(long id) {
+        GameTimekeeper gameTimekeeper = gameController.getGameTimekeeper();
+        if (gameTimekeeper != null) {
+            gameTimekeeper.getWheel().schedule(FINISHED_GAME_RETENTION_MILLIS, () -> removeGame(id));
+        }
+    }
+
+    private static long reservation(int dimension, int winLength, List<Player> players, TimeControl timeControl) {
+        boolean timed = timeControl != null && timeControl.isTimed();
+        return GameFootprint.reserve(dimension, winLength, players, timed) + ENTRY_BYTES;
+    }
+
+    private void reserve(long bytes) {
+        while (true) {
+            long budget = memoryBudgetBytes;
+            long current = reservedBytes.get();
+            if (budget > 0 && current + bytes > budget) {
+                throw new MemoryBudgetExceededException("A new game needs " + bytes + " bytes but only "
+                        + Math.max(0, budget - current) + " of the " + budget + " byte budget are free");
+            }
+            if (reservedBytes.compareAndSet(current, current + bytes)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Bytes reserved by the games in the registry, each for its full board.
+     */
+    public long getReservedBytes() {
+        return reservedBytes.get();
+    }
+
+    /**
+     * Bytes the games in the registry hold right now, from their actual moves.
+     */
+    public long getLiveGameBytes() {
+        long bytes = 0;
+        for (Game game : games.values()) {
+            synchronized (game) {
+                bytes += GameFootprint.measure(game) + ENTRY_BYTES;
+            }
+        }
+        return bytes;
+    }
+
+    public long getMemoryBudgetBytes() {
+        return memoryBudgetBytes;
+    }
+
+    /**
+     * Takes effect for the next game created; games already running keep their reservation.
+     */
+    public void setMemoryBudgetBytes(long memoryBudgetBytes) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    public int getGameCount() {
+        return games.size();
+    }
+
+    public GameController getGameController() {
+        return gameController;
+    }
+}
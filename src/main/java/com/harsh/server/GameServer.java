@@ -0,0 +1,318 @@
+package com.harsh.server;
+
+import com.harsh.Models.BotDifficultyLevel;
+import com.harsh.Models.Game;
+import com.harsh.Models.TimeControl;
+import com.harsh.codec.GameBinaryCodec;
+import com.harsh.codec.GameJsonCodec;
+import com.harsh.codec.JsonReader;
+import com.harsh.codec.MoveRequest;
+import com.harsh.codec.OutputBuffer;
+import com.harsh.exceptions.InvalidMoveException;
+import com.harsh.exceptions.MemoryBudgetExceededException;
+import com.harsh.spectator.SpectatorHub;
+import com.harsh.spectator.SpectatorService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Minimal HTTP API over {@link GameRegistry}, served by the JDK's built-in HTTP server.
+ *
+ * <pre>
+ * GET    /health                        -> OK
+ * POST   /games?size=3[&amp;win=3][&amp;moveMs=..][&amp;clockMs=..][&amp;incMs=..][&amp;bot=HARD] -> 201 game
+ * GET    /games/{id}[?format=binary]    -> 200 game
+ * POST   /games/{id}/moves?row=r&amp;col=c   -> 200 game, 409 if the move is illegal
+ *        (or the move as a JSON body: {"row":r,"col":c})
+ * DELETE /games/{id}                    -> 204
+ * GET    /games/{id}/spectate           -> 200 stream of spectator frames until the game ends
+ * GET    /diagnostics/memory            -> 200 {"liveGames":..,"liveBytes":..,"reservedBytes":..,"budgetBytes":..}
+ * </pre>
+ *
+ * With {@code bot} set the second seat is a bot, which replies within the same move request;
+ * moves are published to spectators by the registry, whichever front end they came through.
+ * Games are encoded by {@link GameJsonCodec} (or {@link GameBinaryCodec}) into a buffer each
+ * handler thread reuses, and move bodies are parsed without building a tree.
+ * A new game that would exceed the registry's memory budget is refused with 503.
+ */
+public class GameServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int MAX_DIMENSION = 64;
+    private static final int SPECTATOR_WRITER_THREADS = 4;
+    private static final int MAX_MOVE_BODY_BYTES = 256;
+    private static final ThreadLocal<RequestBuffers> BUFFERS = ThreadLocal.withInitial(RequestBuffers::new);
+
+    static {
+        // Headers and body go out as separate small writes; with Nagle on, each response waits
+        // for the client's delayed ACK (~40 ms). Must be set before the JDK server is first used.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final GameRegistry registry;
+    private final SpectatorService spectators;
+
+    public GameServer(InetSocketAddress address, GameRegistry registry, int threads) throws IOException {
+        this.registry = registry;
+        this.spectators = new SpectatorService(SPECTATOR_WRITER_THREADS);
+        registry.setRemovalListener(spectators::removeGame);
+        registry.setMoveListener(spectators::publishMove);
+        this.httpServer = HttpServer.create(address, 0);
+        this.executor = Executors.newFixedThreadPool(threads);
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/health", exchange -> send(exchange, 200, "OK"));
+        httpServer.createContext("/games", this::handleGames);
+        httpServer.createContext("/diagnostics/memory", this::memory);
+    }
+
+    public void start() {
+        httpServer.start();
+    }
+
+    public void stop() {
+        spectators.shutdown();
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public GameRegistry getRegistry() {
+        return registry;
+    }
+
+    public SpectatorService getSpectators() {
+        return spectators;
+    }
+
+    private void handleGames(HttpExchange exchange) throws IOException {
+        try {
+            String[] path = exchange.getRequestURI().getPath().split("/");
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            // path[0] is empty, path[1] is "games"
+            if (path.length == 2 && "POST".equals(method)) {
+                createGame(exchange, query);
+            } else if (path.length == 3) {
+                long id = Long.parseLong(path[2]);
+                if ("GET".equals(method)) {
+                    getGame(exchange, id, query);
+                } else if ("DELETE".equals(method)) {
+                    deleteGame(exchange, id);
+                } else {
+                    send(exchange, 405, "Method not allowed");
+                }
+            } else if (path.length == 4 && "moves".equals(path[3]) && "POST".equals(method)) {
+                makeMove(exchange, Long.parseLong(path[2]), query);
+            } else if (path.length == 4 && "spectate".equals(path[3]) && "GET".equals(method)) {
+                spectate(exchange, Long.parseLong(path[2]));
+            } else {
+                send(exchange, 404, "Not found");
+            }
+        } catch (IllegalArgumentException e) {
+            send(exchange, 400, "Bad request: " + e.getMessage());
+        }
+    }
+
+    private void createGame(HttpExchange exchange, Map<String, String> query) throws IOException {
+        int dimension = Integer.parseInt(query.getOrDefault("size", "3"));
+        int winLength = Integer.parseInt(query.getOrDefault("win", String.valueOf(dimension)));
+        if (dimension < 1 || dimension > MAX_DIMENSION || winLength < 1 || winLength > dimension) {
+            send(exchange, 400, "Bad request: invalid size or win length");
+            return;
+        }
+        TimeControl timeControl = new TimeControl(
+                Long.parseLong(query.getOrDefault("moveMs", "0")),
+                Long.parseLong(query.getOrDefault("clockMs", "0")),
+                Long.parseLong(query.getOrDefault("incMs", "0")));
+        if (timeControl.isTimed() && registry.getGameController().getGameTimekeeper() == null) {
+            send(exchange, 400, "Bad request: time controls are not enabled on this server");
+            return;
+        }
+        String bot = query.get("bot");
+        BotDifficultyLevel botLevel = bot == null ? null : BotDifficultyLevel.valueOf(bot);
+        long id;
+        try {
+            id = registry.createGame(dimension, winLength, timeControl, botLevel);
+        } catch (MemoryBudgetExceededException e) {
+            send(exchange, 503, "Server full: " + e.getMessage());
+            return;
+        }
+        Game game = registry.getGame(id);
+        OutputBuffer out = BUFFERS.get().out.reset();
+        synchronized (game) {
+            GameJsonCodec.writeGame(out, id, game);
+        }
+        send(exchange, 201, out, false);
+    }
+
+    private void getGame(HttpExchange exchange, long id, Map<String, String> query) throws IOException {
+        Game game = registry.getGame(id);
+        if (game == null) {
+            send(exchange, 404, "Game not found");
+            return;
+        }
+        boolean binary = "binary".equals(query.get("format"));
+        OutputBuffer out = BUFFERS.get().out.reset();
+        synchronized (game) {
+            if (binary) {
+                GameBinaryCodec.writeGame(out, id, game);
+            } else {
+                GameJsonCodec.writeGame(out, id, game);
+            }
+        }
+        send(exchange, 200, out, binary);
+    }
+
+    private void deleteGame(HttpExchange exchange, long id) throws IOException {
+        if (registry.removeGame(id) == null) {
+            send(exchange, 404, "Game not found");
+            return;
+        }
+        exchange.sendResponseHeaders(204, -1);
+        exchange.close();
+    }
+
+    private void makeMove(HttpExchange exchange, long id, Map<String, String> query) throws IOException {
+        Game game = registry.getGame(id);
+        if (game == null) {
+            send(exchange, 404, "Game not found");
+            return;
+        }
+        RequestBuffers buffers = BUFFERS.get();
+        MoveRequest request = buffers.moveRequest;
+        if (query.containsKey("row") || query.containsKey("col")) {
+            request.setRow(Integer.parseInt(query.getOrDefault("row", "")));
+            request.setCol(Integer.parseInt(query.getOrDefault("col", "")));
+        } else {
+            readMoveBody(exchange.getRequestBody(), buffers);
+        }
+        int row = request.getRow();
+        int col = request.getCol();
+        BotTurn botTurn;
+        try {
+            botTurn = registry.playMove(game, row, col);
+        } catch (InvalidMoveException e) {
+            send(exchange, 409, e.getMessage());
+            return;
+        }
+        if (botTurn != null) {
+            try {
+                registry.playBotTurn(game, botTurn);
+            } catch (InvalidMoveException e) {
+                send(exchange, 500, "Bot failed to move: " + e.getMessage());
+                return;
+            }
+        }
+        OutputBuffer out = buffers.out.reset();
+        synchronized (game) {
+            GameJsonCodec.writeGame(out, id, game);
+        }
+        send(exchange, 200, out, false);
+    }
+
+    private static void readMoveBody(InputStream body, RequestBuffers buffers) throws IOException {
+        byte[] bytes = buffers.body;
+        int length = body.readNBytes(bytes, 0, bytes.length);
+        if (length == bytes.length && body.read() != -1) {
+            throw new IllegalArgumentException("Move body larger than " + MAX_MOVE_BODY_BYTES + " bytes");
+        }
+        GameJsonCodec.readMoveRequest(buffers.reader.reset(bytes, 0, length), buffers.moveRequest);
+    }
+
+    /**
+     * Streams spectator frames. The response stays open after the handler returns; the
+     * spectator writer threads own it from here and close it when the game ends.
+     */
+    private void spectate(HttpExchange exchange, long id) throws IOException {
+        Game game = registry.getGame(id);
+        if (game == null) {
+            send(exchange, 404, "Game not found");
+            return;
+        }
+        // The registry drops a game's hub under its lock, so a hub made here for a game still
+        // registered is either dropped later or never made for one already gone
+        SpectatorHub hub;
+        synchronized (game) {
+            hub = registry.getGame(id) == game ? spectators.getHub(game) : null;
+        }
+        if (hub == null) {
+            send(exchange, 404, "Game not found");
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+        exchange.sendResponseHeaders(200, 0);
+        synchronized (game) {
+            // A hub closed since still sends the final position, then ends the stream
+            hub.join(exchange.getResponseBody());
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(pair.substring(0, separator), pair.substring(separator + 1));
+            }
+        }
+        return query;
+    }
+
+    private void memory(HttpExchange exchange) throws IOException {
+        OutputBuffer out = BUFFERS.get().out.reset();
+        out.writeAscii("{\"liveGames\":").writeDecimal(registry.getGameCount())
+                .writeAscii(",\"liveBytes\":").writeDecimal(registry.getLiveGameBytes())
+                .writeAscii(",\"reservedBytes\":").writeDecimal(registry.getReservedBytes())
+                .writeAscii(",\"budgetBytes\":").writeDecimal(registry.getMemoryBudgetBytes())
+                .writeByte('}');
+        send(exchange, 200, out, false);
+    }
+
+    private static void send(HttpExchange exchange, int status, OutputBuffer body, boolean binary) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", binary ? "application/octet-stream" : "application/json");
+        exchange.sendResponseHeaders(status, body.size());
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.writeTo(out);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Per handler thread scratch space, so encoding a response and parsing a move body reuse
+     * the same objects on every request.
+     */
+    private static class RequestBuffers {
+        private final OutputBuffer out = new OutputBuffer(512);
+        private final byte[] body = new byte[MAX_MOVE_BODY_BYTES];
+        private final JsonReader reader = new JsonReader();
+        private final MoveRequest moveRequest = new MoveRequest();
+    }
+}
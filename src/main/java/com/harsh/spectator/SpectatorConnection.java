@@ -0,0 +1,226 @@
+package com.harsh.spectator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * One watcher's stream. Frames are queued up to a fixed capacity and written by a task on the
+ * shared writer executor, at most one task per connection at a time.
+ *
+ * A consumer that falls a full queue behind loses its backlog and receives nothing until the
+ * next keyframe, which brings it back in sync. One that keeps falling behind is disconnected.
+ *
+ * Only the writer task touches the stream, closing included: publishers run under the game's
+ * lock, and closing an HTTP response writes its final chunk, which blocks on a watcher that
+ * stopped reading. Writes and the close are watched by a {@link WriteWatchdog} that aborts them
+ * once they block past its deadline.
+ */
+public class SpectatorConnection {
+    private final OutputStream out;
+    private final int capacity;
+    private final int maxLags;
+    private final Executor writer;
+    private final WriteWatchdog watchdog;
+    private final ArrayDeque<SpectatorFrame> queue = new ArrayDeque<>();
+    private final Runnable onClose;
+
+    private boolean draining;
+    private boolean awaitingKeyframe;
+    private boolean closeWhenDrained;
+    private boolean closed;
+    private int lags;
+    private long framesSkipped;
+    private Thread writingThread;
+    private long writeStartedNanos;
+    private boolean aborted;
+
+    SpectatorConnection(OutputStream out, int capacity, int maxLags, Executor writer, WriteWatchdog watchdog,
+                        Runnable onClose) {
+        this.out = out;
+        this.capacity = capacity;
+        this.maxLags = maxLags;
+        this.writer = writer;
+        this.watchdog = watchdog;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Queues a frame for writing. Returns false once the connection is closed.
+     */
+    boolean offer(SpectatorFrame frame) {
+        synchronized (this) {
+            if (closed) {
+                return false;
+            }
+            if (awaitingKeyframe) {
+                if (!frame.isKeyframe()) {
+                    framesSkipped++;
+                    return true;
+                }
+                awaitingKeyframe = false;
+            }
+            if (queue.size() >= capacity) {
+                framesSkipped += queue.size() + 1;
+                queue.clear();
+                lags++;
+                if (lags > maxLags) {
+                    closeLocked();
+                    return false;
+                }
+                // Jump straight to the incoming keyframe, or wait for the next one
+                if (!frame.isKeyframe()) {
+                    awaitingKeyframe = true;
+                    return true;
+                }
+            }
+            queue.add(frame);
+            startDrainLocked();
+        }
+        return true;
+    }
+
+    /**
+     * Closes the stream once every queued frame has been written.
+     */
+    synchronized void closeWhenDrained() {
+        closeWhenDrained = true;
+        startDrainLocked();
+    }
+
+    /**
+     * Drops the backlog and disconnects. Returns at once; the stream is closed by the writer.
+     */
+    public synchronized void close() {
+        closeLocked();
+    }
+
+    private void closeLocked() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.clear();
+        onClose.run();
+        startDrainLocked();
+    }
+
+    private void startDrainLocked() {
+        if (draining) {
+            return;
+        }
+        draining = true;
+        try {
+            writer.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // The service is shutting down; nobody is left to write, so give up the stream.
+            // draining stays set so this happens once
+            closed = true;
+            queue.clear();
+            closeStream();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            SpectatorFrame frame;
+            synchronized (this) {
+                frame = closed ? null : queue.poll();
+                if (frame == null && !closed && !closeWhenDrained) {
+                    draining = false;
+                    return;
+                }
+                if (frame == null && !closed) {
+                    closed = true;
+                    onClose.run();
+                }
+            }
+            if (frame == null) {
+                // draining stays set, so no other task is started for this stream
+                closeStream();
+                return;
+            }
+            boolean written = false;
+            beginWrite();
+            try {
+                frame.writeTo(out);
+                if (queueIsEmpty()) {
+                    out.flush();
+                }
+                written = true;
+            } catch (IOException e) {
+                // The peer is gone, or the write was aborted
+            } finally {
+                endWrite();
+            }
+            if (!written) {
+                synchronized (this) {
+                    if (!closed) {
+                        closed = true;
+                        queue.clear();
+                        onClose.run();
+                    }
+                }
+                closeStream();
+                return;
+            }
+        }
+    }
+
+    private void closeStream() {
+        beginWrite();
+        try {
+            out.close();
+        } catch (IOException e) {
+            // The peer is gone already
+        } finally {
+            endWrite();
+            watchdog.unwatch(this);
+        }
+    }
+
+    private synchronized void beginWrite() {
+        writingThread = Thread.currentThread();
+        writeStartedNanos = System.nanoTime();
+    }
+
+    private void endWrite() {
+        synchronized (this) {
+            writingThread = null;
+        }
+        // The watchdog only interrupts while writingThread is set, so any interrupt it sent is
+        // pending now; clear it before the pool thread moves on to another connection
+        Thread.interrupted();
+    }
+
+    /**
+     * Interrupts the writer if the current write or close has blocked for longer than the timeout.
+     */
+    synchronized void abortIfStuck(long nowNanos, long timeoutNanos) {
+        if (writingThread != null && nowNanos - writeStartedNanos > timeoutNanos) {
+            aborted = true;
+            writingThread.interrupt();
+        }
+    }
+
+    private synchronized boolean queueIsEmpty() {
+        return queue.isEmpty();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * True if a write to this watcher was aborted for blocking past the deadline.
+     */
+    public synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    public synchronized long getFramesSkipped() {
+        return framesSkipped;
+    }
+}
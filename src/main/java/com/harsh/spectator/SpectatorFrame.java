@@ -0,0 +1,91 @@
+package com.harsh.spectator;
+
+import com.harsh.Models.Cell;
+import com.harsh.Models.CellState;
+import com.harsh.Models.Game;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * An update for spectators, encoded once and then written unchanged to every connection.
+ *
+ * Wire format, big-endian, each frame prefixed with the length of the rest:
+ * <pre>
+ * int length, byte type, int sequence (moves played so far), byte state, byte nextPlayer, byte winner
+ * MOVE:     short row, short col, byte playerIndex
+ * KEYFRAME: short size, short winLength, size * size cell bytes (0 empty, else playerIndex + 1)
+ * </pre>
+ * State is the {@link com.harsh.Models.GameState} ordinal; winner is -1 while there is none.
+ */
+public final class SpectatorFrame {
+    public static final byte MOVE = 1;
+    public static final byte KEYFRAME = 2;
+    private static final int HEADER_BYTES = 4 + 1 + 4 + 3;
+
+    private final byte[] bytes;
+
+    private SpectatorFrame(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    public static SpectatorFrame move(Game game, Move move) {
+        ByteBuffer buffer = header(game, MOVE, 5);
+        buffer.putShort((short) move.getCell().getRow());
+        buffer.putShort((short) move.getCell().getCol());
+        buffer.put((byte) game.getPlayers().indexOf(move.getPlayer()));
+        return new SpectatorFrame(buffer.array());
+    }
+
+    public static SpectatorFrame keyframe(Game game) {
+        int size = game.getBoard().getSize();
+        ByteBuffer buffer = header(game, KEYFRAME, 4 + size * size);
+        buffer.putShort((short) size);
+        buffer.putShort((short) game.getBoard().getWinLength());
+        List<Player> players = game.getPlayers();
+        for (List<Cell> row : game.getBoard().getBoard()) {
+            for (Cell cell : row) {
+                buffer.put(cell.getCellState().equals(CellState.EMPTY) ? 0 : (byte) (players.indexOf(cell.getPlayer()) + 1));
+            }
+        }
+        return new SpectatorFrame(buffer.array());
+    }
+
+    private static ByteBuffer header(Game game, byte type, int bodyBytes) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + bodyBytes);
+        buffer.putInt(buffer.capacity() - 4);
+        buffer.put(type);
+        buffer.putInt(game.getMoves().size());
+        buffer.put((byte) game.getGameState().ordinal());
+        buffer.put((byte) game.getNextPlayerMoveIndex());
+        buffer.put((byte) (game.getWinner() == null ? -1 : game.getPlayers().indexOf(game.getWinner())));
+        return buffer;
+    }
+
+    public byte getType() {
+        return bytes[4];
+    }
+
+    public boolean isKeyframe() {
+        return getType() == KEYFRAME;
+    }
+
+    public int getLength() {
+        return bytes.length;
+    }
+
+    /**
+     * Read-only view of the encoded bytes; shares the frame's storage.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,117 @@
+package com.harsh.spectator;
+
+import com.harsh.Models.Game;
+import com.harsh.Models.GameState;
+import com.harsh.Models.Move;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * Fans out the updates of one game. Every accepted move is encoded once into a
+ * {@link SpectatorFrame} and that same frame goes to every watcher; a full-board keyframe is
+ * added every few moves and when the game ends. New watchers get the latest keyframe plus the
+ * moves since, so they never need a per-viewer render of the board.
+ *
+ * Callers publish while holding the game's lock, which keeps frames in move order.
+ */
+public class SpectatorHub {
+    private final int keyframeInterval;
+    private final int queueCapacity;
+    private final int maxLags;
+    private final Executor writer;
+    private final WriteWatchdog watchdog;
+    private final List<SpectatorConnection> connections = new CopyOnWriteArrayList<>();
+    private final List<SpectatorFrame> sinceKeyframe = new ArrayList<>();
+    private SpectatorFrame lastKeyframe;
+    private boolean finished;
+    private long framesEncoded;
+
+    SpectatorHub(Game game, int keyframeInterval, int queueCapacity, int maxLags, Executor writer,
+                 WriteWatchdog watchdog) {
+        this.keyframeInterval = keyframeInterval;
+        this.queueCapacity = queueCapacity;
+        this.maxLags = maxLags;
+        this.writer = writer;
+        this.watchdog = watchdog;
+        this.lastKeyframe = encodeKeyframe(game);
+        this.finished = game.getGameState() != GameState.InProgress;
+    }
+
+    /**
+     * Adds a watcher and sends it the current position.
+     */
+    public synchronized SpectatorConnection join(OutputStream out) {
+        SpectatorConnection[] holder = new SpectatorConnection[1];
+        SpectatorConnection connection = new SpectatorConnection(out, queueCapacity, maxLags, writer, watchdog,
+                () -> connections.remove(holder[0]));
+        holder[0] = connection;
+        watchdog.watch(connection);
+        connection.offer(lastKeyframe);
+        for (SpectatorFrame frame : sinceKeyframe) {
+            connection.offer(frame);
+        }
+        if (finished) {
+            connection.closeWhenDrained();
+        } else {
+            connections.add(connection);
+        }
+        return connection;
+    }
+
+    /**
+     * Publishes the move just applied to {@code game}.
+     */
+    public synchronized void publishMove(Game game, Move move) {
+        if (finished) {
+            return;
+        }
+        SpectatorFrame moveFrame = SpectatorFrame.move(game, move);
+        framesEncoded++;
+        broadcast(moveFrame);
+        sinceKeyframe.add(moveFrame);
+
+        finished = game.getGameState() != GameState.InProgress;
+        if (finished || game.getMoves().size() % keyframeInterval == 0) {
+            lastKeyframe = encodeKeyframe(game);
+            sinceKeyframe.clear();
+            broadcast(lastKeyframe);
+        }
+        if (finished) {
+            close();
+        }
+    }
+
+    /**
+     * Disconnects every watcher once it has received what is already queued.
+     */
+    public synchronized void close() {
+        finished = true;
+        for (SpectatorConnection connection : connections) {
+            connection.closeWhenDrained();
+        }
+        connections.clear();
+    }
+
+    private SpectatorFrame encodeKeyframe(Game game) {
+        framesEncoded++;
+        return SpectatorFrame.keyframe(game);
+    }
+
+    private void broadcast(SpectatorFrame frame) {
+        for (SpectatorConnection connection : connections) {
+            connection.offer(frame);
+        }
+    }
+
+    public int getSpectatorCount() {
+        return connections.size();
+    }
+
+    public synchronized long getFramesEncoded() {
+        return framesEncoded;
+    }
+}
@@ -0,0 +1,92 @@
+package com.harsh.spectator;
+
+import com.harsh.Models.Game;
+import com.harsh.Models.Move;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Spectator hubs of all games, created on the first watcher. Games nobody watches cost nothing.
+ * A write to one watcher that blocks past the write timeout is aborted, freeing its writer thread.
+ */
+public class SpectatorService {
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 8;
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+    public static final int DEFAULT_MAX_LAGS = 3;
+    public static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 5_000;
+
+    private final Map<Long, SpectatorHub> hubs = new ConcurrentHashMap<>();
+    private final ExecutorService writer;
+    private final WriteWatchdog watchdog;
+    private final int keyframeInterval;
+    private final int queueCapacity;
+    private final int maxLags;
+
+    public SpectatorService(int writerThreads) {
+        this(Executors.newFixedThreadPool(writerThreads), DEFAULT_KEYFRAME_INTERVAL, DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_MAX_LAGS);
+    }
+
+    public SpectatorService(ExecutorService writer, int keyframeInterval, int queueCapacity, int maxLags) {
+        this(writer, keyframeInterval, queueCapacity, maxLags, DEFAULT_WRITE_TIMEOUT_MILLIS);
+    }
+
+    public SpectatorService(ExecutorService writer, int keyframeInterval, int queueCapacity, int maxLags,
+                            long writeTimeoutMillis) {
+        this.writer = writer;
+        this.watchdog = new WriteWatchdog(writeTimeoutMillis);
+        this.keyframeInterval = keyframeInterval;
+        this.queueCapacity = queueCapacity;
+        this.maxLags = maxLags;
+    }
+
+    /**
+     * Hub for {@code game}, created with its current position if nobody watched it yet.
+     * Call while holding the game's lock.
+     */
+    public SpectatorHub getHub(Game game) {
+        return hubs.computeIfAbsent(game.getId(),
+                id -> new SpectatorHub(game, keyframeInterval, queueCapacity, maxLags, writer, watchdog));
+    }
+
+    /**
+     * Publishes a move to the game's watchers, if it has any. Call while holding the game's lock.
+     */
+    public void publishMove(Game game, Move move) {
+        SpectatorHub hub = hubs.get(game.getId());
+        if (hub != null) {
+            hub.publishMove(game, move);
+        }
+    }
+
+    /**
+     * Disconnects the watchers of a game that was removed.
+     */
+    public void removeGame(long gameId) {
+        SpectatorHub hub = hubs.remove(gameId);
+        if (hub != null) {
+            hub.close();
+        }
+    }
+
+    public int getHubCount() {
+        return hubs.size();
+    }
+
+    /**
+     * Watchers whose stream is not closed yet, including those finishing their last frames.
+     */
+    public int getOpenStreamCount() {
+        return watchdog.getWatchedCount();
+    }
+
+    public void shutdown() {
+        hubs.values().forEach(SpectatorHub::close);
+        hubs.clear();
+        writer.shutdown();
+        watchdog.shutdown();
+    }
+}
@@ -0,0 +1,58 @@
+package com.harsh.spectator;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aborts spectator writes that block for longer than a deadline, so a watcher whose socket
+ * stopped draining cannot hold one of the shared writer threads.
+ *
+ * Aborting interrupts the writer thread. The JDK HTTP server writes responses to a blocking
+ * {@link java.nio.channels.SocketChannel}, which is interruptible: the blocked write fails and the
+ * channel is closed, taking the watcher's exchange with it.
+ */
+class WriteWatchdog {
+    private final Set<SpectatorConnection> connections = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService timer;
+    private final long timeoutNanos;
+
+    WriteWatchdog(long timeoutMillis) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "spectator-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(10, timeoutMillis / 4);
+        timer.scheduleAtFixedRate(this::check, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    void watch(SpectatorConnection connection) {
+        connections.add(connection);
+    }
+
+    /**
+     * Called once the connection's stream is closed and it will write no more.
+     */
+    void unwatch(SpectatorConnection connection) {
+        connections.remove(connection);
+    }
+
+    private void check() {
+        long now = System.nanoTime();
+        for (SpectatorConnection connection : connections) {
+            connection.abortIfStuck(now, timeoutNanos);
+        }
+    }
+
+    int getWatchedCount() {
+        return connections.size();
+    }
+
+    void shutdown() {
+        timer.shutdownNow();
+    }
+}
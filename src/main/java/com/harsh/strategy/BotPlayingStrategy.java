@@ -0,0 +1,27 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.Board;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.diagnostics.ObjectLayout;
+
+/**
+ * Picks the next move for a bot. Returns null when there is no empty cell left.
+ */
+public interface BotPlayingStrategy {
+    Move makeMove(Board board, Player player);
+
+    /**
+     * Stops any work the strategy does between moves, e.g. when the game is over.
+     */
+    default void stopPondering() {
+    }
+
+    /**
+     * Approximate heap the strategy keeps between moves while playing on a board of this size,
+     * for memory budgeting. The default is an object without fields.
+     */
+    default long estimateRetainedBytes(int boardSize, int winLength) {
+        return ObjectLayout.object(0, 0);
+    }
+}
@@ -0,0 +1,22 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.BotDifficultyLevel;
+
+public class BotPlayingStrategyFactory {
+    public static final long HARD_MOVE_TIME_MILLIS = 100;
+    /**
+     * Search threads per HARD move: half the cores, leaving room for other games and pondering.
+     */
+    public static final int HARD_SEARCH_THREADS = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors() / 2));
+
+    public static BotPlayingStrategy getStrategy(BotDifficultyLevel botDifficultyLevel) {
+        switch (botDifficultyLevel) {
+            case HARD:
+                return new PonderingStrategy(HARD_MOVE_TIME_MILLIS, HARD_SEARCH_THREADS);
+            case EASY:
+            case MEDIUM:
+            default:
+                return new EasyBotPlayingStrategy();
+        }
+    }
+}
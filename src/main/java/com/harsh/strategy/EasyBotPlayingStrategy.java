@@ -0,0 +1,26 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.Board;
+import com.harsh.Models.Cell;
+import com.harsh.Models.CellState;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+
+import java.util.List;
+
+/**
+ * Plays the first empty cell in row-major order.
+ */
+public class EasyBotPlayingStrategy implements BotPlayingStrategy {
+    @Override
+    public Move makeMove(Board board, Player player) {
+        for (List<Cell> row : board.getBoard()){
+            for (Cell cell : row){
+                if(cell.getCellState().equals(CellState.EMPTY)){
+                    return new Move(cell,player);
+                }
+            }
+        }
+        return null;
+    }
+}
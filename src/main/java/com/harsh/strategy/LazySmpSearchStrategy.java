@@ -0,0 +1,164 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.Board;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.diagnostics.ObjectLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parallel HARD search in the Lazy SMP style: every worker searches the same position and they
+ * cooperate only through a shared lock-free {@link TranspositionTable}.
+ *
+ * The main worker runs the full {@link ThreatSpaceSearchStrategy} (wins, blocks, threat-space
+ * search, then alpha-beta). Helpers run only the alpha-beta part, starting their iterative
+ * deepening at staggered depths so they fill the table with entries the main worker is about to
+ * need. When the budget runs out the move from the deepest finished iteration wins, the main
+ * worker's on a tie.
+ *
+ * Helpers run on one pool shared by all games, with a thread per core. When it is busy, a move
+ * is searched with as many helpers as it can get, down to the calling thread alone, so a server
+ * with many games thinking at once keeps one search thread per core rather than per game.
+ *
+ * Boards smaller than {@link #MIN_PARALLEL_SIZE} are solved by one thread well within the
+ * budget, so they are searched on the calling thread alone. The table is allocated on the first
+ * move and sized for the board by {@link TranspositionTable#slotBitsFor}.
+ */
+public class LazySmpSearchStrategy implements BotPlayingStrategy {
+    public static final int MIN_PARALLEL_SIZE = 4;
+    static final int HELPER_THREADS = Runtime.getRuntime().availableProcessors();
+    /**
+     * Shared by every game. It has no queue: a helper starts only if a thread is free for it.
+     */
+    private static final ExecutorService HELPER_EXECUTOR = new ThreadPoolExecutor(HELPER_THREADS, HELPER_THREADS,
+            0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "bot-search");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final long moveTimeMillis;
+    private final int threads;
+    private TranspositionTable transpositionTable;
+    private ThreatSpaceSearchStrategy mainWorker;
+    private long nodes;
+    private int completedDepth;
+
+    /**
+     * @param threads workers per move, including the calling thread
+     */
+    public LazySmpSearchStrategy(long moveTimeMillis, int threads) {
+        this.moveTimeMillis = moveTimeMillis;
+        this.threads = Math.max(1, threads);
+    }
+
+    private ThreatSpaceSearchStrategy mainWorker(int boardSize) {
+        if (mainWorker == null) {
+            transpositionTable = new TranspositionTable(TranspositionTable.slotBitsFor(boardSize * boardSize));
+            mainWorker = new ThreatSpaceSearchStrategy(moveTimeMillis, transpositionTable, 0);
+        }
+        return mainWorker;
+    }
+
+    @Override
+    public Move makeMove(Board board, Player player) {
+        PatternTable position = mainWorker(board.getSize()).sync(board, player);
+        int cell = search(position, board.getSize() < MIN_PARALLEL_SIZE ? 1 : threads);
+        if (cell < 0) {
+            return null;
+        }
+        return new Move(board.getBoard().get(cell / board.getSize()).get(cell % board.getSize()), player);
+    }
+
+    /**
+     * Searches {@code position} with the given number of workers, the main one on this thread.
+     *
+     * @return chosen cell, or -1 if the board is full
+     */
+    int search(PatternTable position, int workers) {
+        ThreatSpaceSearchStrategy mainWorker = mainWorker(position.getSize());
+        long budgetNanos = moveTimeMillis * 1_000_000L;
+        List<ThreatSpaceSearchStrategy> helpers = new ArrayList<>(workers - 1);
+        List<Future<Integer>> results = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+            // Offsets 1, 1, 2, 2, 3, ...: half the helpers search one ply ahead of the other half
+            ThreatSpaceSearchStrategy helper = new ThreatSpaceSearchStrategy(
+                    moveTimeMillis, transpositionTable, (i + 1) / 2);
+            PatternTable copy = position.copy();
+            try {
+                results.add(HELPER_EXECUTOR.submit(() -> helper.searchTree(copy, budgetNanos)));
+            } catch (RejectedExecutionException e) {
+                // Every helper thread is busy with other games; search with the workers we have
+                break;
+            }
+            helpers.add(helper);
+        }
+
+        int best = mainWorker.search(position, budgetNanos);
+        nodes = mainWorker.getNodes();
+        completedDepth = mainWorker.getCompletedDepth();
+        for (ThreatSpaceSearchStrategy helper : helpers) {
+            helper.cancel();
+        }
+        for (int i = 0; i < helpers.size(); i++) {
+            int helperBest = awaitHelper(results.get(i));
+            ThreatSpaceSearchStrategy helper = helpers.get(i);
+            nodes += helper.getNodes();
+            if (helperBest >= 0 && helper.getCompletedDepth() > completedDepth) {
+                best = helperBest;
+                completedDepth = helper.getCompletedDepth();
+            }
+        }
+        return best;
+    }
+
+    private static int awaitHelper(Future<Integer> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (ExecutionException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public long estimateRetainedBytes(int boardSize, int winLength) {
+        return ObjectLayout.object(3, 8 + 4 + 8 + 4)
+                + TranspositionTable.estimateBytes(TranspositionTable.slotBitsFor(boardSize * boardSize))
+                + ThreatSpaceSearchStrategy.estimateBytes(boardSize, winLength);
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Nodes visited by all workers while choosing the last move.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Depth of the iteration the last move came from; see
+     * {@link ThreatSpaceSearchStrategy#getCompletedDepth()}.
+     */
+    int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    TranspositionTable getTranspositionTable() {
+        return transpositionTable;
+    }
+}
@@ -0,0 +1,361 @@
+package com.harsh.strategy;
+
+import com.harsh.diagnostics.ObjectLayout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Incremental pattern counts for a K-in-a-row board.
+ *
+ * Every run of K consecutive cells along a row, column or diagonal is a window. A window that
+ * holds stones of only one colour is "live" for that colour, and the table keeps, per colour,
+ * how many live windows hold 1..K stones (K-1 is a four in five-in-a-row, K-2 a three, ...).
+ * Placing or removing a stone only touches the windows on the four lines through that cell,
+ * so updates cost O(K) and the counts double as a fast heuristic evaluation.
+ *
+ * Colours are {@link #FIRST} and {@link #SECOND}, cells are indexed {@code row * size + col}.
+ * The table also keeps a Zobrist hash of the stones; tables of the same size and win length
+ * use the same keys, so equal positions hash alike across copies and threads.
+ */
+public class PatternTable {
+    public static final int EMPTY = 0;
+    public static final int FIRST = 1;
+    public static final int SECOND = 2;
+
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+    private static final int NEIGHBOURHOOD = 2;
+    private static final long MAX_WEIGHT = 1L << 30;
+
+    private final int size;
+    private final int winLength;
+    private final int[][] windowCells;
+    private final int[][] cellWindows;
+    private final int[][] windowCounts = new int[3][];
+    private final int[][] patternCounts = new int[3][];
+    private final long[] scores = new long[3];
+    private final long[] weights;
+    private final int[] stones;
+    private final int[] neighbours;
+    private final long[] zobristKeys;
+    private int stoneCount;
+    private long hash;
+
+    public PatternTable(int size, int winLength) {
+        this.size = size;
+        this.winLength = winLength;
+        this.stones = new int[size * size];
+        this.neighbours = new int[size * size];
+        this.zobristKeys = new long[3 * size * size];
+        SplittableRandom random = new SplittableRandom(31L * size + winLength);
+        for (int i = size * size; i < zobristKeys.length; i++) {
+            zobristKeys[i] = random.nextLong();
+        }
+
+        List<int[]> windows = new ArrayList<>();
+        for (int[] direction : DIRECTIONS) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int endRow = row + (winLength - 1) * direction[0];
+                    int endCol = col + (winLength - 1) * direction[1];
+                    if (endRow < 0 || endRow >= size || endCol < 0 || endCol >= size) {
+                        continue;
+                    }
+                    int[] cells = new int[winLength];
+                    for (int i = 0; i < winLength; i++) {
+                        cells[i] = (row + i * direction[0]) * size + col + i * direction[1];
+                    }
+                    windows.add(cells);
+                }
+            }
+        }
+        this.windowCells = windows.toArray(new int[0][]);
+
+        int[] windowsPerCell = new int[size * size];
+        for (int[] cells : windowCells) {
+            for (int cell : cells) {
+                windowsPerCell[cell]++;
+            }
+        }
+        this.cellWindows = new int[size * size][];
+        for (int cell = 0; cell < size * size; cell++) {
+            cellWindows[cell] = new int[windowsPerCell[cell]];
+            windowsPerCell[cell] = 0;
+        }
+        for (int window = 0; window < windowCells.length; window++) {
+            for (int cell : windowCells[window]) {
+                cellWindows[cell][windowsPerCell[cell]++] = window;
+            }
+        }
+
+        for (int colour = FIRST; colour <= SECOND; colour++) {
+            windowCounts[colour] = new int[windowCells.length];
+            patternCounts[colour] = new int[winLength + 1];
+        }
+
+        // Each extra stone in a window is worth roughly an order of magnitude more
+        this.weights = new long[winLength + 1];
+        for (int stonesInWindow = 1; stonesInWindow <= winLength; stonesInWindow++) {
+            weights[stonesInWindow] = Math.min(MAX_WEIGHT, 1L << (3 * (stonesInWindow - 1)));
+        }
+    }
+
+    /**
+     * Independent table with the same stones, for searching on another thread.
+     */
+    public PatternTable copy() {
+        PatternTable copy = new PatternTable(size, winLength);
+        for (int cell = 0; cell < stones.length; cell++) {
+            if (stones[cell] != EMPTY) {
+                copy.place(cell, stones[cell]);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Heap held by a table of this size, from the array shapes the constructor builds.
+     */
+    public static long estimateBytes(int size, int winLength) {
+        int cells = size * size;
+        int[] windowsPerCell = new int[cells];
+        int windows = 0;
+        for (int[] direction : DIRECTIONS) {
+            for (int row = 0; row < size; row++) {
+                for (int col = 0; col < size; col++) {
+                    int endRow = row + (winLength - 1) * direction[0];
+                    int endCol = col + (winLength - 1) * direction[1];
+                    if (endRow < 0 || endRow >= size || endCol < 0 || endCol >= size) {
+                        continue;
+                    }
+                    windows++;
+                    for (int i = 0; i < winLength; i++) {
+                        windowsPerCell[(row + i * direction[0]) * size + col + i * direction[1]]++;
+                    }
+                }
+            }
+        }
+
+        long bytes = ObjectLayout.object(9, 3 * 4 + 8);
+        bytes += ObjectLayout.referenceArray(windows) + windows * ObjectLayout.array(winLength, 4);
+        bytes += ObjectLayout.referenceArray(cells);
+        for (int count : windowsPerCell) {
+            bytes += ObjectLayout.array(count, 4);
+        }
+        bytes += 2 * ObjectLayout.referenceArray(3) + 2 * ObjectLayout.array(windows, 4)
+                + 2 * ObjectLayout.array(winLength + 1, 4);
+        bytes += ObjectLayout.array(3, 8) + ObjectLayout.array(winLength + 1, 8);
+        bytes += 2 * ObjectLayout.array(cells, 4) + ObjectLayout.array(3L * cells, 8);
+        return bytes;
+    }
+
+    public static int opponent(int colour) {
+        return FIRST + SECOND - colour;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getStone(int cell) {
+        return stones[cell];
+    }
+
+    public int getStoneCount() {
+        return stoneCount;
+    }
+
+    /**
+     * Zobrist hash of the stones on the table.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    public boolean isFull() {
+        return stoneCount == stones.length;
+    }
+
+    public void place(int cell, int colour) {
+        for (int window : cellWindows[cell]) {
+            account(window, -1);
+            windowCounts[colour][window]++;
+            account(window, 1);
+        }
+        stones[cell] = colour;
+        hash ^= zobristKeys[colour * stones.length + cell];
+        stoneCount++;
+        updateNeighbours(cell, 1);
+    }
+
+    public void remove(int cell) {
+        int colour = stones[cell];
+        for (int window : cellWindows[cell]) {
+            account(window, -1);
+            windowCounts[colour][window]--;
+            account(window, 1);
+        }
+        stones[cell] = EMPTY;
+        hash ^= zobristKeys[colour * stones.length + cell];
+        stoneCount--;
+        updateNeighbours(cell, -1);
+    }
+
+    private void account(int window, int sign) {
+        int first = windowCounts[FIRST][window];
+        int second = windowCounts[SECOND][window];
+        if (first > 0 && second == 0) {
+            patternCounts[FIRST][first] += sign;
+            scores[FIRST] += sign * weights[first];
+        } else if (second > 0 && first == 0) {
+            patternCounts[SECOND][second] += sign;
+            scores[SECOND] += sign * weights[second];
+        }
+    }
+
+    private void updateNeighbours(int cell, int delta) {
+        int row = cell / size;
+        int col = cell % size;
+        for (int r = Math.max(0, row - NEIGHBOURHOOD); r <= Math.min(size - 1, row + NEIGHBOURHOOD); r++) {
+            for (int c = Math.max(0, col - NEIGHBOURHOOD); c <= Math.min(size - 1, col + NEIGHBOURHOOD); c++) {
+                neighbours[r * size + c] += delta;
+            }
+        }
+    }
+
+    /**
+     * Number of windows that are live for {@code colour} and hold exactly {@code stonesInWindow} stones.
+     */
+    public int getPatternCount(int colour, int stonesInWindow) {
+        return patternCounts[colour][stonesInWindow];
+    }
+
+    public boolean hasWon(int colour) {
+        return patternCounts[colour][winLength] > 0;
+    }
+
+    /**
+     * True when {@code colour} can complete a line with its next stone.
+     */
+    public boolean hasCompletion(int colour) {
+        return patternCounts[colour][winLength - 1] > 0;
+    }
+
+    /**
+     * Distinct empty cells that would complete a line for {@code colour}.
+     */
+    public List<Integer> completionCells(int colour) {
+        List<Integer> cells = new ArrayList<>();
+        if (!hasCompletion(colour)) {
+            return cells;
+        }
+        int other = opponent(colour);
+        for (int window = 0; window < windowCells.length; window++) {
+            if (windowCounts[colour][window] == winLength - 1 && windowCounts[other][window] == 0) {
+                for (int cell : windowCells[window]) {
+                    if (stones[cell] == EMPTY && !cells.contains(cell)) {
+                        cells.add(cell);
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * True when a stone of {@code colour} on the empty {@code cell} would complete a line.
+     */
+    public boolean completesLine(int cell, int colour) {
+        return maxLiveStones(cell, colour) == winLength - 1;
+    }
+
+    /**
+     * Most stones of {@code colour} in any window through {@code cell} that is live for that colour.
+     */
+    public int maxLiveStones(int cell, int colour) {
+        int other = opponent(colour);
+        int best = 0;
+        for (int window : cellWindows[cell]) {
+            if (windowCounts[other][window] == 0) {
+                best = Math.max(best, windowCounts[colour][window]);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Empty cells of windows through {@code cell} that are live for {@code colour}
+     * and hold at least {@code minStones} of its stones.
+     */
+    public List<Integer> emptyCellsOfLiveWindows(int cell, int colour, int minStones) {
+        List<Integer> cells = new ArrayList<>();
+        int other = opponent(colour);
+        for (int window : cellWindows[cell]) {
+            if (windowCounts[other][window] == 0 && windowCounts[colour][window] >= minStones) {
+                for (int windowCell : windowCells[window]) {
+                    if (stones[windowCell] == EMPTY && !cells.contains(windowCell)) {
+                        cells.add(windowCell);
+                    }
+                }
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Change in {@code colour}'s pattern score if it played on {@code cell}, plus the score it
+     * would take away from the opponent. Used to order candidate moves.
+     */
+    public long moveValue(int cell, int colour) {
+        int other = opponent(colour);
+        long value = 0;
+        for (int window : cellWindows[cell]) {
+            int own = windowCounts[colour][window];
+            int theirs = windowCounts[other][window];
+            if (theirs == 0) {
+                value += weights[own + 1] - weights[own];
+            }
+            if (own == 0) {
+                value += weights[theirs];
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Pattern score of {@code colour} minus that of its opponent.
+     */
+    public long evaluate(int colour) {
+        return scores[colour] - scores[opponent(colour)];
+    }
+
+    /**
+     * Empty cells within two cells of a stone, or the centre on an empty board.
+     */
+    public List<Integer> candidateCells() {
+        List<Integer> cells = new ArrayList<>();
+        if (stoneCount == 0) {
+            cells.add((size / 2) * size + size / 2);
+            return cells;
+        }
+        for (int cell = 0; cell < stones.length; cell++) {
+            if (stones[cell] == EMPTY && neighbours[cell] > 0) {
+                cells.add(cell);
+            }
+        }
+        return cells;
+    }
+
+    @Override
+    public String toString() {
+        return "PatternTable{size=" + size + ", winLength=" + winLength
+                + ", first=" + Arrays.toString(patternCounts[FIRST])
+                + ", second=" + Arrays.toString(patternCounts[SECOND]) + "}";
+    }
+}
@@ -0,0 +1,225 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.Board;
+import com.harsh.Models.Cell;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.diagnostics.ObjectLayout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wraps a {@link LazySmpSearchStrategy} and keeps thinking during the opponent's turn.
+ *
+ * After every move the bot searches its answers to the opponent's likeliest replies (ranked by
+ * pattern value) on a background thread. If the opponent then plays one of those replies the
+ * cached answer is returned at once; otherwise the normal search runs with its full budget.
+ *
+ * Pondering runs on a small shared pool of low-priority daemon threads, gives each reply at most
+ * one move budget, and is cancelled before the bot's next move or by {@link #stopPondering()}.
+ *
+ * A reply is pondered by a single worker, not the full set of Lazy SMP workers, so a cached
+ * answer can come from a shallower search than the foreground one would reach. It shares the
+ * foreground search's transposition table, which narrows the gap: the pondering worker starts
+ * from everything the last foreground search stored, and its own entries serve the next search
+ * whether or not the reply was predicted.
+ */
+public class PonderingStrategy implements BotPlayingStrategy {
+    static final int PONDER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+    private static final int PONDER_REPLIES = 8;
+    private static final ExecutorService PONDER_EXECUTOR = Executors.newFixedThreadPool(PONDER_THREADS,
+            runnable -> {
+                Thread thread = new Thread(runnable, "bot-ponder");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+
+    private final LazySmpSearchStrategy searchStrategy;
+    private final long moveTimeMillis;
+    private volatile PonderSession session;
+    private final AtomicLong ponderHits = new AtomicLong();
+
+    public PonderingStrategy(long moveTimeMillis) {
+        this(moveTimeMillis, 1);
+    }
+
+    /**
+     * @param searchThreads workers for the search on the bot's own turn
+     */
+    public PonderingStrategy(long moveTimeMillis, int searchThreads) {
+        this.moveTimeMillis = moveTimeMillis;
+        this.searchStrategy = new LazySmpSearchStrategy(moveTimeMillis, searchThreads);
+    }
+
+    @Override
+    public Move makeMove(Board board, Player player) {
+        PonderSession previous = session;
+        stopPondering();
+
+        Move move = null;
+        if (previous != null) {
+            int reply = previous.replyPlayed(board, player);
+            Integer answer = reply < 0 ? null : previous.getAnswer(reply);
+            if (answer != null) {
+                Cell cell = board.getBoard().get(answer / board.getSize()).get(answer % board.getSize());
+                if (ThreatSpaceSearchStrategy.colourOf(cell, player) == PatternTable.EMPTY) {
+                    move = new Move(cell, player);
+                    ponderHits.incrementAndGet();
+                }
+            }
+        }
+        if (move == null) {
+            move = searchStrategy.makeMove(board, player);
+        }
+
+        if (move != null) {
+            PatternTable base = ThreatSpaceSearchStrategy.tableOf(board, player);
+            base.place(move.getCell().getRow() * board.getSize() + move.getCell().getCol(), PatternTable.FIRST);
+            if (!base.isFull() && !base.hasWon(PatternTable.FIRST)) {
+                // Published only once submitted, so a concurrent stopPondering always has a future to cancel
+                session = new PonderSession(base, moveTimeMillis, searchStrategy.getTranspositionTable());
+            }
+        }
+        return move;
+    }
+
+    /**
+     * Cancels background work without waiting for it: a queued session never starts, and a running
+     * one stops at its next check. Safe to call at any time, from any thread.
+     */
+    @Override
+    public void stopPondering() {
+        PonderSession current = session;
+        session = null;
+        if (current != null) {
+            current.stop();
+        }
+    }
+
+    /**
+     * The foreground search plus one ponder session: its base table and its engine's table.
+     * The per-reply copies are garbage as soon as each reply is searched.
+     */
+    @Override
+    public long estimateRetainedBytes(int boardSize, int winLength) {
+        return ObjectLayout.object(2, 8 + 8) + searchStrategy.estimateRetainedBytes(boardSize, winLength)
+                + PatternTable.estimateBytes(boardSize, winLength)
+                + ThreatSpaceSearchStrategy.estimateBytes(boardSize, winLength);
+    }
+
+    /**
+     * Moves answered from the ponder cache.
+     */
+    public long getPonderHits() {
+        return ponderHits.get();
+    }
+
+    /**
+     * Waits until the current background search has covered every reply it planned to.
+     */
+    boolean awaitPondering(long timeoutMillis) throws InterruptedException {
+        PonderSession current = session;
+        if (current == null) {
+            return true;
+        }
+        try {
+            current.future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    boolean isPondering() {
+        PonderSession current = session;
+        return current != null && !current.future.isDone();
+    }
+
+    Map<Integer, Integer> getPonderedAnswers() {
+        PonderSession current = session;
+        return current == null ? Map.of() : current.answers;
+    }
+
+    private static class PonderSession {
+        private final PatternTable base;
+        private final ThreatSpaceSearchStrategy engine;
+        private final Map<Integer, Integer> answers;
+        private final Future<?> future;
+
+        PonderSession(PatternTable base, long moveTimeMillis, TranspositionTable transpositionTable) {
+            this.base = base;
+            ThreatSpaceSearchStrategy engine = new ThreatSpaceSearchStrategy(moveTimeMillis, transpositionTable, 0);
+            Map<Integer, Integer> answers = new ConcurrentHashMap<>();
+            this.engine = engine;
+            this.answers = answers;
+            this.future = PONDER_EXECUTOR.submit(() -> ponder(base, engine, moveTimeMillis, answers));
+        }
+
+        private static void ponder(PatternTable base, ThreatSpaceSearchStrategy engine, long moveTimeMillis,
+                                   Map<Integer, Integer> answers) {
+            // Opponent's view: its stones are SECOND in our table, so rank cells by SECOND's value
+            List<Integer> candidates = base.candidateCells();
+            candidates.sort((a, b) -> Long.compare(base.moveValue(b, PatternTable.SECOND),
+                    base.moveValue(a, PatternTable.SECOND)));
+            for (int reply : candidates.subList(0, Math.min(PONDER_REPLIES, candidates.size()))) {
+                if (engine.isCancelled()) {
+                    return;
+                }
+                PatternTable position = base.copy();
+                position.place(reply, PatternTable.SECOND);
+                if (position.hasWon(PatternTable.SECOND) || position.isFull()) {
+                    continue;
+                }
+                int answer = engine.search(position, moveTimeMillis * 1_000_000L);
+                if (!engine.isCancelled() && answer >= 0) {
+                    answers.put(reply, answer);
+                }
+            }
+        }
+
+        /**
+         * Nothing outside the session reads its engine or answers once it is replaced, so a
+         * running search is left to wind down on its own.
+         */
+        void stop() {
+            future.cancel(false);
+            engine.cancel();
+        }
+
+        Integer getAnswer(int reply) {
+            return answers.get(reply);
+        }
+
+        /**
+         * Cell of the single opponent stone added to the pondered position, or -1 if the board
+         * differs from it in any other way.
+         */
+        int replyPlayed(Board board, Player player) {
+            int reply = -1;
+            for (List<Cell> row : board.getBoard()) {
+                for (Cell cell : row) {
+                    int index = cell.getRow() * board.getSize() + cell.getCol();
+                    int colour = ThreatSpaceSearchStrategy.colourOf(cell, player);
+                    if (colour == base.getStone(index)) {
+                        continue;
+                    }
+                    if (reply >= 0 || colour != PatternTable.SECOND || base.getStone(index) != PatternTable.EMPTY) {
+                        return -1;
+                    }
+                    reply = index;
+                }
+            }
+            return reply;
+        }
+    }
+}
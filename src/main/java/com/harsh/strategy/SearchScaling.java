@@ -0,0 +1,68 @@
+package com.harsh.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Measures how {@link LazySmpSearchStrategy} scales with threads: every thread count searches
+ * the same set of positions with the same per-move budget, each with a fresh transposition
+ * table, and the totals are compared.
+ *
+ * Positions the search solves inside the budget end early, so more threads show up as less time
+ * per search; on the others they show up as a deeper finished iteration. Nodes per second is
+ * reported too but flatters the shared table, since a table cutoff is a very cheap node.
+ */
+public class SearchScaling {
+    private static final long SEED = 2024;
+
+    private final int size;
+    private final int winLength;
+    private final long moveTimeMillis;
+    private final List<PatternTable> positions;
+
+    /**
+     * @param positionCount number of positions, each with a few random stones for both sides
+     */
+    public SearchScaling(int size, int winLength, long moveTimeMillis, int positionCount) {
+        this.size = size;
+        this.winLength = winLength;
+        this.moveTimeMillis = moveTimeMillis;
+        this.positions = new ArrayList<>(positionCount);
+        SplittableRandom random = new SplittableRandom(SEED);
+        while (positions.size() < positionCount) {
+            PatternTable position = new PatternTable(size, winLength);
+            // FIRST is to move, so both sides have the same number of stones
+            for (int stone = 0; stone < 4; stone++) {
+                int cell = random.nextInt(size * size);
+                if (position.getStone(cell) == PatternTable.EMPTY) {
+                    position.place(cell, stone % 2 == 0 ? PatternTable.SECOND : PatternTable.FIRST);
+                } else {
+                    stone--;
+                }
+            }
+            if (!position.hasCompletion(PatternTable.FIRST) && !position.hasCompletion(PatternTable.SECOND)) {
+                positions.add(position);
+            }
+        }
+    }
+
+    public List<SearchScalingResult> run(int... threadCounts) {
+        List<SearchScalingResult> results = new ArrayList<>(threadCounts.length);
+        for (int threads : threadCounts) {
+            results.add(run(threads));
+        }
+        return results;
+    }
+
+    public SearchScalingResult run(int threads) {
+        SearchScalingResult result = new SearchScalingResult(size, winLength, threads);
+        for (PatternTable position : positions) {
+            LazySmpSearchStrategy strategy = new LazySmpSearchStrategy(moveTimeMillis, threads);
+            long start = System.nanoTime();
+            strategy.search(position.copy(), threads);
+            result.addSearch(strategy.getNodes(), strategy.getCompletedDepth(), System.nanoTime() - start);
+        }
+        return result;
+    }
+}
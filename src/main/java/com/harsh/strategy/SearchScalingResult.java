@@ -0,0 +1,76 @@
+package com.harsh.strategy;
+
+/**
+ * Totals of a {@link SearchScaling} run for one thread count.
+ * Searches decided without an alpha-beta iteration (wins, blocks, forced wins) count towards
+ * nodes and time but not towards the average depth.
+ */
+public class SearchScalingResult {
+    private final int size;
+    private final int winLength;
+    private final int threads;
+    private int searches;
+    private int depthSearches;
+    private long depthSum;
+    private long nodes;
+    private long elapsedNanos;
+
+    public SearchScalingResult(int size, int winLength, int threads) {
+        this.size = size;
+        this.winLength = winLength;
+        this.threads = threads;
+    }
+
+    void addSearch(long nodes, int completedDepth, long elapsedNanos) {
+        searches++;
+        this.nodes += nodes;
+        this.elapsedNanos += elapsedNanos;
+        if (completedDepth != Integer.MAX_VALUE) {
+            depthSearches++;
+            depthSum += completedDepth;
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getSearches() {
+        return searches;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nodes * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double getAverageMillis() {
+        return searches == 0 ? 0 : elapsedNanos / 1e6 / searches;
+    }
+
+    public double getAverageDepth() {
+        return depthSearches == 0 ? 0 : (double) depthSum / depthSearches;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%dx%d k=%d threads=%d searches=%d nodes=%d nodes/s=%.0f avgMs=%.1f avgDepth=%.2f",
+                size, size, winLength, threads, searches, nodes, getNodesPerSecond(), getAverageMillis(),
+                getAverageDepth());
+    }
+}
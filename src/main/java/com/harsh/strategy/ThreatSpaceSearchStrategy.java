@@ -0,0 +1,545 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.Board;
+import com.harsh.Models.Cell;
+import com.harsh.Models.CellState;
+import com.harsh.Models.Move;
+import com.harsh.Models.Player;
+import com.harsh.diagnostics.ObjectLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HARD bot for K-in-a-row boards, built on an incremental {@link PatternTable}.
+ *
+ * A move is chosen in this order, all within a fixed per-move time budget:
+ * complete our own line, block the opponent's, look for a forced win with a threat-space
+ * search (first continuous fours, then threes), and otherwise run an iterative-deepening
+ * alpha-beta search over a small set of candidate cells ordered by pattern value.
+ *
+ * The table is kept between moves and only the stones that appeared since the last call are
+ * placed, so syncing with the board is a single pass over the cells.
+ *
+ * Given a {@link TranspositionTable} the alpha-beta search stores its results there and reuses
+ * them for cutoffs and move ordering; several instances sharing one table are the workers of
+ * {@link LazySmpSearchStrategy}.
+ */
+public class ThreatSpaceSearchStrategy implements BotPlayingStrategy {
+    private static final long WIN = 1L << 50;
+    private static final long INFINITY = Long.MAX_VALUE / 2;
+    private static final int ROOT_WIDTH = 16;
+    private static final int INNER_WIDTH = 10;
+    private static final int VCF_DEPTH = 12;
+    private static final int VCT_DEPTH = 5;
+    private static final int MAX_DEPTH = 64;
+    private static final int TIME_CHECK_MASK = 255;
+    private static final long WIN_THRESHOLD = WIN - 2 * MAX_DEPTH;
+
+    private final long moveTimeNanos;
+    private final TranspositionTable transpositionTable;
+    private final TranspositionTable.Entry entry = new TranspositionTable.Entry();
+    private final int depthOffset;
+    private PatternTable table;
+    private long deadline;
+    private boolean timeUp;
+    private long nodes;
+    private volatile boolean cancelled;
+    private int completedDepth;
+
+    public ThreatSpaceSearchStrategy(long moveTimeMillis) {
+        this(moveTimeMillis, null, 0);
+    }
+
+    /**
+     * @param transpositionTable table to share results through, or null for none
+     * @param depthOffset        iterative deepening starts at {@code 1 + depthOffset}
+     */
+    public ThreatSpaceSearchStrategy(long moveTimeMillis, TranspositionTable transpositionTable, int depthOffset) {
+        this.moveTimeNanos = moveTimeMillis * 1_000_000L;
+        this.transpositionTable = transpositionTable;
+        this.depthOffset = depthOffset;
+    }
+
+    @Override
+    public Move makeMove(Board board, Player player) {
+        sync(board, player);
+        int cell = search(table, moveTimeNanos);
+        if (cell < 0) {
+            return null;
+        }
+        return new Move(board.getBoard().get(cell / table.getSize()).get(cell % table.getSize()), player);
+    }
+
+    @Override
+    public long estimateRetainedBytes(int boardSize, int winLength) {
+        return estimateBytes(boardSize, winLength);
+    }
+
+    /**
+     * The strategy object, its probe scratch entry and the pattern table it keeps between moves.
+     */
+    static long estimateBytes(int boardSize, int winLength) {
+        return ObjectLayout.object(3, 8 + 8 + 8 + 1 + 1 + 4 + 4) + ObjectLayout.object(0, 8 + 3 * 4)
+                + PatternTable.estimateBytes(boardSize, winLength);
+    }
+
+    /**
+     * Nodes visited while choosing the last move.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Deepest alpha-beta iteration finished by the last search, or {@link Integer#MAX_VALUE}
+     * when the move was decided without one (a win, a block or a forced win).
+     */
+    int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    PatternTable getTable() {
+        return table;
+    }
+
+    /**
+     * Chooses a move for {@link PatternTable#FIRST} on a table the caller owns, e.g. a
+     * position a background search expects to see next.
+     *
+     * @return chosen cell, or -1 if the board is full
+     */
+    int search(PatternTable position, long budgetNanos) {
+        start(position, budgetNanos);
+        return chooseCell(PatternTable.FIRST);
+    }
+
+    /**
+     * Runs only the alpha-beta search, as a helper thread does while another thread handles
+     * the win, block and threat checks.
+     *
+     * @return best cell of the deepest finished iteration, or -1 if there are no candidates
+     */
+    int searchTree(PatternTable position, long budgetNanos) {
+        start(position, budgetNanos);
+        List<Integer> candidates = table.candidateCells();
+        return candidates.isEmpty() ? -1 : alphaBetaSearch(PatternTable.FIRST, candidates);
+    }
+
+    private void start(PatternTable position, long budgetNanos) {
+        table = position;
+        deadline = System.nanoTime() + budgetNanos;
+        timeUp = false;
+        nodes = 0;
+        completedDepth = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Makes a running and every later search stop at the next node check. Cannot be undone.
+     */
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Builds a table from the board, with {@code player}'s stones as {@link PatternTable#FIRST}.
+     */
+    static PatternTable tableOf(Board board, Player player) {
+        PatternTable position = new PatternTable(board.getSize(), board.getWinLength());
+        for (List<Cell> row : board.getBoard()) {
+            for (Cell cell : row) {
+                int colour = colourOf(cell, player);
+                if (colour != PatternTable.EMPTY) {
+                    position.place(cell.getRow() * board.getSize() + cell.getCol(), colour);
+                }
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Brings the kept table up to date with the board and returns it.
+     */
+    PatternTable sync(Board board, Player player) {
+        int size = board.getSize();
+        if (table == null || table.getSize() != size || table.getWinLength() != board.getWinLength()
+                || !isContinuationOf(board, player)) {
+            table = tableOf(board, player);
+            return table;
+        }
+        for (List<Cell> row : board.getBoard()) {
+            for (Cell cell : row) {
+                int index = cell.getRow() * size + cell.getCol();
+                int colour = colourOf(cell, player);
+                if (colour != PatternTable.EMPTY && table.getStone(index) == PatternTable.EMPTY) {
+                    table.place(index, colour);
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * True when every stone in the table is still on the board, i.e. the board only gained stones.
+     */
+    private boolean isContinuationOf(Board board, Player player) {
+        for (List<Cell> row : board.getBoard()) {
+            for (Cell cell : row) {
+                int stone = table.getStone(cell.getRow() * table.getSize() + cell.getCol());
+                if (stone != PatternTable.EMPTY && stone != colourOf(cell, player)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    static int colourOf(Cell cell, Player player) {
+        if (cell.getCellState().equals(CellState.EMPTY)) {
+            return PatternTable.EMPTY;
+        }
+        if (cell.getPlayer() != null && cell.getPlayer().getSymbol().getaChar() == player.getSymbol().getaChar()) {
+            return PatternTable.FIRST;
+        }
+        return PatternTable.SECOND;
+    }
+
+    int chooseCell(int colour) {
+        List<Integer> candidates = table.candidateCells();
+        if (candidates.isEmpty()) {
+            return firstEmptyCell();
+        }
+
+        List<Integer> wins = table.completionCells(colour);
+        if (!wins.isEmpty()) {
+            return wins.get(0);
+        }
+        List<Integer> blocks = table.completionCells(PatternTable.opponent(colour));
+        if (!blocks.isEmpty()) {
+            return blocks.get(0);
+        }
+
+        int forcedWin = threatSpaceSearch(colour);
+        if (forcedWin >= 0) {
+            return forcedWin;
+        }
+        return alphaBetaSearch(colour, candidates);
+    }
+
+    private int firstEmptyCell() {
+        int cells = table.getSize() * table.getSize();
+        for (int cell = 0; cell < cells; cell++) {
+            if (table.getStone(cell) == PatternTable.EMPTY) {
+                return cell;
+            }
+        }
+        return -1;
+    }
+
+    private boolean checkTime() {
+        if ((++nodes & TIME_CHECK_MASK) == 0 && (cancelled || System.nanoTime() > deadline)) {
+            timeUp = true;
+        }
+        return timeUp;
+    }
+
+    // ---------------------------------------------------------------- threat-space search
+
+    /**
+     * Looks for a sequence of threats that wins by force: first with fours only (VCF), then also
+     * with threes (VCT). The defender only gets the replies that stop the current threat, and any
+     * reply that gives the defender a four of its own refutes the line.
+     *
+     * @return first move of a forced win, or -1 if none was found in time
+     */
+    private int threatSpaceSearch(int attacker) {
+        boolean[] modes = table.getWinLength() >= 4 ? new boolean[]{false, true} : new boolean[]{false};
+        for (boolean threes : modes) {
+            int depth = threes ? VCT_DEPTH : VCF_DEPTH;
+            for (int cell : threatMoves(attacker, threes)) {
+                if (checkTime()) {
+                    return -1;
+                }
+                table.place(cell, attacker);
+                boolean win = defenceFails(attacker, cell, depth - 1, threes);
+                table.remove(cell);
+                if (win) {
+                    return cell;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private boolean attackerWins(int attacker, int depth, boolean threes) {
+        if (table.hasCompletion(attacker)) {
+            return true;
+        }
+        if (table.hasCompletion(PatternTable.opponent(attacker)) || depth <= 0 || checkTime()) {
+            return false;
+        }
+        for (int cell : threatMoves(attacker, threes)) {
+            table.place(cell, attacker);
+            boolean win = defenceFails(attacker, cell, depth - 1, threes);
+            table.remove(cell);
+            if (win) {
+                return true;
+            }
+            if (timeUp) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean defenceFails(int attacker, int attackCell, int depth, boolean threes) {
+        List<Integer> completions = table.completionCells(attacker);
+        if (completions.size() >= 2) {
+            return true;
+        }
+
+        List<Integer> defences;
+        if (completions.size() == 1) {
+            defences = completions;
+        } else if (threes) {
+            defences = threeDefences(attacker, attackCell);
+        } else {
+            return false;
+        }
+        if (defences.isEmpty()) {
+            return false;
+        }
+
+        int defender = PatternTable.opponent(attacker);
+        for (int defence : defences) {
+            table.place(defence, defender);
+            boolean win = attackerWins(attacker, depth, threes);
+            table.remove(defence);
+            if (!win) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cells that stop the three just made on {@code attackCell}, plus every cell that gives the
+     * defender a four of its own.
+     */
+    private List<Integer> threeDefences(int attacker, int attackCell) {
+        int defender = PatternTable.opponent(attacker);
+        List<Integer> defences = table.emptyCellsOfLiveWindows(attackCell, attacker, table.getWinLength() - 2);
+        for (int cell : table.candidateCells()) {
+            if (table.maxLiveStones(cell, defender) == table.getWinLength() - 2 && !defences.contains(cell)) {
+                defences.add(cell);
+            }
+        }
+        return defences;
+    }
+
+    /**
+     * Moves that make a four and, when {@code threes} is set, moves that make a three that
+     * threatens two completions on the next move. Fours come first.
+     */
+    private List<Integer> threatMoves(int attacker, boolean threes) {
+        int winLength = table.getWinLength();
+        List<Integer> fours = new ArrayList<>();
+        List<Integer> threats = new ArrayList<>();
+        for (int cell : table.candidateCells()) {
+            int live = table.maxLiveStones(cell, attacker);
+            if (live == winLength - 2) {
+                fours.add(cell);
+            } else if (threes && live == winLength - 3 && makesThree(cell, attacker)) {
+                threats.add(cell);
+            }
+        }
+        fours.addAll(threats);
+        return fours;
+    }
+
+    private boolean makesThree(int cell, int attacker) {
+        int winLength = table.getWinLength();
+        table.place(cell, attacker);
+        boolean three = false;
+        for (int next : table.emptyCellsOfLiveWindows(cell, attacker, winLength - 2)) {
+            table.place(next, attacker);
+            three = table.emptyCellsOfLiveWindows(next, attacker, winLength - 1).size() >= 2;
+            table.remove(next);
+            if (three) {
+                break;
+            }
+        }
+        table.remove(cell);
+        return three;
+    }
+
+    // ---------------------------------------------------------------- alpha-beta
+
+    private int alphaBetaSearch(int colour, List<Integer> candidates) {
+        List<Integer> ordered = orderMoves(candidates, colour, ROOT_WIDTH);
+        int best = ordered.get(0);
+        int emptyCells = table.getSize() * table.getSize() - table.getStoneCount();
+        completedDepth = 0;
+
+        for (int depth = Math.min(1 + depthOffset, emptyCells); depth <= Math.min(emptyCells, MAX_DEPTH); depth++) {
+            long alpha = -INFINITY;
+            int iterationBest = -1;
+            for (int cell : ordered) {
+                table.place(cell, colour);
+                long score = -negamax(PatternTable.opponent(colour), depth - 1, -INFINITY, -alpha, 1);
+                table.remove(cell);
+                if (timeUp) {
+                    break;
+                }
+                if (score > alpha) {
+                    alpha = score;
+                    iterationBest = cell;
+                }
+            }
+            if (timeUp || iterationBest < 0) {
+                break;
+            }
+
+            best = iterationBest;
+            completedDepth = depth;
+            ordered.remove(Integer.valueOf(best));
+            ordered.add(0, best);
+            if (Math.abs(alpha) >= WIN - MAX_DEPTH) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    private long negamax(int colour, int depth, long alpha, long beta, int ply) {
+        if (checkTime()) {
+            return 0;
+        }
+        int opponent = PatternTable.opponent(colour);
+        if (table.hasWon(opponent)) {
+            return -(WIN - ply);
+        }
+        if (table.isFull()) {
+            return 0;
+        }
+        if (table.hasCompletion(colour)) {
+            return WIN - ply - 1;
+        }
+        if (depth <= 0) {
+            return table.evaluate(colour);
+        }
+
+        long key = 0;
+        int tableMove = -1;
+        long originalAlpha = alpha;
+        if (transpositionTable != null) {
+            key = TranspositionTable.keyOf(table, colour);
+            if (transpositionTable.probe(key, entry)) {
+                tableMove = entry.move;
+                if (entry.depth >= depth) {
+                    long score = fromTable(entry.score, ply);
+                    if (entry.bound == TranspositionTable.EXACT) {
+                        return score;
+                    } else if (entry.bound == TranspositionTable.LOWER_BOUND) {
+                        alpha = Math.max(alpha, score);
+                    } else {
+                        beta = Math.min(beta, score);
+                    }
+                    if (alpha >= beta) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        List<Integer> moves = table.hasCompletion(opponent)
+                ? table.completionCells(opponent)
+                : orderMoves(table.candidateCells(), colour, INNER_WIDTH);
+        if (moves.isEmpty()) {
+            return table.evaluate(colour);
+        }
+        if (tableMove >= 0 && moves.remove(Integer.valueOf(tableMove))) {
+            moves.add(0, tableMove);
+        }
+
+        long best = -INFINITY;
+        int bestMove = -1;
+        for (int cell : moves) {
+            table.place(cell, colour);
+            long score = -negamax(opponent, depth - 1, -beta, -alpha, ply + 1);
+            table.remove(cell);
+            if (timeUp) {
+                return 0;
+            }
+            if (score > best) {
+                best = score;
+                bestMove = cell;
+            }
+            alpha = Math.max(alpha, score);
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        if (transpositionTable != null) {
+            int bound = best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                    : best >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+            transpositionTable.store(key, toTable(best, ply), depth, bound, bestMove);
+        }
+        return best;
+    }
+
+    /**
+     * Win scores count plies from the root; the table keeps them relative to the stored node.
+     */
+    private static long toTable(long score, int ply) {
+        if (score >= WIN_THRESHOLD) {
+            return score + ply;
+        }
+        return score <= -WIN_THRESHOLD ? score - ply : score;
+    }
+
+    private static long fromTable(long score, int ply) {
+        if (score >= WIN_THRESHOLD) {
+            return score - ply;
+        }
+        return score <= -WIN_THRESHOLD ? score + ply : score;
+    }
+
+    private List<Integer> orderMoves(List<Integer> cells, int colour, int width) {
+        int count = cells.size();
+        int[] order = new int[count];
+        long[] values = new long[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = cells.get(i);
+            values[i] = table.moveValue(order[i], colour);
+        }
+
+        // Partial selection sort: only the first `width` entries need to be in order
+        int limit = Math.min(width, count);
+        for (int i = 0; i < limit; i++) {
+            int bestIndex = i;
+            for (int j = i + 1; j < count; j++) {
+                if (values[j] > values[bestIndex]) {
+                    bestIndex = j;
+                }
+            }
+            long value = values[i];
+            values[i] = values[bestIndex];
+            values[bestIndex] = value;
+            int cell = order[i];
+            order[i] = order[bestIndex];
+            order[bestIndex] = cell;
+        }
+
+        List<Integer> ordered = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            ordered.add(order[i]);
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,131 @@
+package com.harsh.strategy;
+
+import com.harsh.diagnostics.ObjectLayout;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size transposition table shared by search threads without locks.
+ *
+ * Each slot is three longs: a check word, the score and a packed word holding depth, bound type
+ * and best move. The check word is {@code key ^ score ^ packed}, so a slot torn by two threads
+ * writing at once fails verification on the next probe and reads as a miss instead of returning
+ * another position's data (the XOR scheme of Hyatt and Mann). Words are read and written with
+ * opaque access: each one is atomic, but no ordering between them is paid for.
+ *
+ * Replacement keeps the deeper entry for the same position and always replaces another position.
+ */
+public class TranspositionTable {
+    public static final int EXACT = 0;
+    public static final int LOWER_BOUND = 1;
+    public static final int UPPER_BOUND = 2;
+
+    private static final int WORDS_PER_SLOT = 3;
+    private static final int MIN_SLOT_BITS = 12;
+    private static final int MAX_SLOT_BITS = 16;
+    private static final int SLOT_BITS_PER_CELL_BIT = 9;
+    private static final long SECOND_TO_MOVE = 0x9E3779B97F4A7C15L;
+    private static final int DEPTH_BITS = 8;
+    private static final int BOUND_BITS = 2;
+    private static final long DEPTH_MASK = (1L << DEPTH_BITS) - 1;
+    private static final long BOUND_MASK = (1L << BOUND_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     * @param slotBits log2 of the number of slots
+     */
+    public TranspositionTable(int slotBits) {
+        this.slots = new AtomicLongArray(WORDS_PER_SLOT << slotBits);
+        this.mask = (1 << slotBits) - 1;
+    }
+
+    /**
+     * Table size for a board: about 512 slots per cell, between 4K and 64K slots. Small boards
+     * have few positions, and a 3x3 game should not hold the 1.5 MB a 15x15 one uses.
+     */
+    public static int slotBitsFor(int cells) {
+        int cellBits = 32 - Integer.numberOfLeadingZeros(Math.max(1, cells - 1));
+        return Math.max(MIN_SLOT_BITS, Math.min(MAX_SLOT_BITS, cellBits + SLOT_BITS_PER_CELL_BIT));
+    }
+
+    /**
+     * Heap held by a table with {@code 2^slotBits} slots.
+     */
+    public static long estimateBytes(int slotBits) {
+        return ObjectLayout.object(1, 4) + ObjectLayout.object(1, 0)
+                + ObjectLayout.array((long) WORDS_PER_SLOT << slotBits, Long.BYTES);
+    }
+
+    /**
+     * Key of a position: its stones plus the colour to move.
+     */
+    public static long keyOf(PatternTable position, int colourToMove) {
+        return colourToMove == PatternTable.SECOND ? position.getHash() ^ SECOND_TO_MOVE : position.getHash();
+    }
+
+    /**
+     * Copies the entry for {@code key} into {@code entry}.
+     *
+     * @return false if the slot holds another position or was torn by a concurrent store
+     */
+    public boolean probe(long key, Entry entry) {
+        int base = slotOf(key);
+        long check = slots.getOpaque(base);
+        long score = slots.getOpaque(base + 1);
+        long packed = slots.getOpaque(base + 2);
+        if ((check ^ score ^ packed) != key || packed == 0) {
+            return false;
+        }
+        entry.score = score;
+        entry.depth = (int) (packed & DEPTH_MASK);
+        entry.bound = (int) ((packed >>> DEPTH_BITS) & BOUND_MASK);
+        entry.move = (int) (packed >>> (DEPTH_BITS + BOUND_BITS)) - 1;
+        return true;
+    }
+
+    /**
+     * @param move best move found, or -1
+     */
+    public void store(long key, long score, int depth, int bound, int move) {
+        int base = slotOf(key);
+        long oldCheck = slots.getOpaque(base);
+        long oldScore = slots.getOpaque(base + 1);
+        long oldPacked = slots.getOpaque(base + 2);
+        if ((oldCheck ^ oldScore ^ oldPacked) == key && (oldPacked & DEPTH_MASK) > depth) {
+            return;
+        }
+        // Never zero, so an untouched slot can't verify against key 0
+        long packed = (Math.min(depth, (int) DEPTH_MASK) | ((long) bound << DEPTH_BITS)
+                | ((long) (move + 1) << (DEPTH_BITS + BOUND_BITS))) | (1L << 62);
+        slots.setOpaque(base, key ^ score ^ packed);
+        slots.setOpaque(base + 1, score);
+        slots.setOpaque(base + 2, packed);
+    }
+
+    public int getSlotCount() {
+        return mask + 1;
+    }
+
+    /**
+     * Bytes held by the slots.
+     */
+    public long getSizeInBytes() {
+        return (long) slots.length() * Long.BYTES;
+    }
+
+    private int slotOf(long key) {
+        return (int) ((key ^ (key >>> 32)) & mask) * WORDS_PER_SLOT;
+    }
+
+    /**
+     * Scratch holder for a probed entry, owned by one search thread.
+     */
+    public static class Entry {
+        long score;
+        int depth;
+        int bound;
+        int move;
+    }
+}
@@ -1,6 +1,8 @@
 package com.harsh.strategy;
 
 import com.harsh.Models.Board;
+import com.harsh.Models.Cell;
+import com.harsh.Models.CellState;
 import com.harsh.Models.Move;
 import com.harsh.Models.Player;
 
@@ -13,69 +15,85 @@ public class winningAlgorithm {
     HashMap<Character, Integer> leftDiagonalMap = new HashMap<>();
     HashMap<Character,Integer> rightDiagonalMap = new HashMap<>();
 
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
     public boolean checkWinner(Board board, Move move) {
         int row = move.getCell().getRow();
         int col = move.getCell().getCol();
         Character character = move.getPlayer().getSymbol().getaChar();
 
-        //Row
-        if (!rowMaps.containsKey(row)) {
-            rowMaps.put(row, new HashMap<>());
-        }
-        HashMap<Character, Integer> currRowMap = rowMaps.get(row);
-
-        if (!currRowMap.containsKey(character)) {
-            currRowMap.put(character, 1);
-        } else {
-            currRowMap.put(character, currRowMap.get(character) + 1);
+        //K in a row: a full line is not needed, look for a run through the move
+        if (board.getWinLength() < board.getSize()) {
+            return checkRun(board, row, col, character);
         }
 
-        if (currRowMap.get(character) == board.getSize()) {
-            return true;
-        }
+        //Every count is updated before answering, so undo can take all of them back
+        boolean won = increment(rowMaps.computeIfAbsent(row, key -> new HashMap<>()), character) == board.getSize();
 
         //Col
-        if (!colMaps.containsKey(col)) {
-            colMaps.put(col, new HashMap<>());
-        }
-        HashMap<Character, Integer> currColMap = colMaps.get(col);
+        won |= increment(colMaps.computeIfAbsent(col, key -> new HashMap<>()), character) == board.getSize();
 
-        if (!currColMap.containsKey(character)) {
-            currColMap.put(character, 1);
-        } else {
-            currColMap.put(character, currColMap.get(character) + 1);
+        //Left Diagonal
+        if (row == col) {
+            won |= increment(leftDiagonalMap, character) == board.getSize();
         }
 
-        if (currColMap.get(character) == board.getSize()) {
-            return true;
+        //Right Diagonal
+        if (row + col == board.getSize() - 1) {
+            won |= increment(rightDiagonalMap, character) == board.getSize();
         }
 
-        //Left Diagonal
-        if (row == col) {
-            if (!leftDiagonalMap.containsKey(character)) {
-                leftDiagonalMap.put(character, 1);
-            } else {
-                leftDiagonalMap.put(character, leftDiagonalMap.get(character) + 1);
-            }
+        return won;
+    }
 
-            if (leftDiagonalMap.get(character) == board.getSize()) {
-                return true;
-            }
+    /**
+     * Takes back the counts of a move passed to {@link #checkWinner} that has since been undone.
+     */
+    public void undo(Board board, Move move) {
+        if (board.getWinLength() < board.getSize()) {
+            return;
+        }
+        int row = move.getCell().getRow();
+        int col = move.getCell().getCol();
+        Character character = move.getPlayer().getSymbol().getaChar();
+        rowMaps.get(row).merge(character, -1, Integer::sum);
+        colMaps.get(col).merge(character, -1, Integer::sum);
+        if (row == col) {
+            leftDiagonalMap.merge(character, -1, Integer::sum);
         }
-
-        //Right Diagonal
         if (row + col == board.getSize() - 1) {
-            if (!rightDiagonalMap.containsKey(character)) {
-                rightDiagonalMap.put(character, 1);
-            } else {
-                rightDiagonalMap.put(character, rightDiagonalMap.get(character) + 1);
-            }
+            rightDiagonalMap.merge(character, -1, Integer::sum);
+        }
+    }
+
+    private static int increment(HashMap<Character, Integer> counts, Character character) {
+        return counts.merge(character, 1, Integer::sum);
+    }
 
-            if (rightDiagonalMap.get(character) == board.getSize()) {
+    private boolean checkRun(Board board, int row, int col, char character) {
+        for (int[] direction : DIRECTIONS) {
+            int run = 1 + countSame(board, row, col, direction[0], direction[1], character)
+                    + countSame(board, row, col, -direction[0], -direction[1], character);
+            if (run >= board.getWinLength()) {
                 return true;
             }
         }
-
         return false;
     }
+
+    private int countSame(Board board, int row, int col, int dRow, int dCol, char character) {
+        int count = 0;
+        int r = row + dRow;
+        int c = col + dCol;
+        while (r >= 0 && r < board.getSize() && c >= 0 && c < board.getSize()) {
+            Cell cell = board.getBoard().get(r).get(c);
+            if (!cell.getCellState().equals(CellState.FILLED) || cell.getPlayer().getSymbol().getaChar() != character) {
+                break;
+            }
+            count++;
+            r += dRow;
+            c += dCol;
+        }
+        return count;
+    }
 }
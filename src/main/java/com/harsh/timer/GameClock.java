@@ -0,0 +1,68 @@
+package com.harsh.timer;
+
+import com.harsh.Models.TimeControl;
+
+/**
+ * Remaining time of every player in one game and the deadline pending for the current turn.
+ */
+public class GameClock {
+    private final TimeControl timeControl;
+    private final long[] remainingMillis;
+    private long turnStartedMillis;
+    private long turn;
+    private Timeout pendingTimeout;
+
+    GameClock(TimeControl timeControl, int playerCount) {
+        this.timeControl = timeControl;
+        this.remainingMillis = new long[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            remainingMillis[i] = timeControl.getClockMillis();
+        }
+    }
+
+    public TimeControl getTimeControl() {
+        return timeControl;
+    }
+
+    public long getRemainingMillis(int playerIndex) {
+        return remainingMillis[playerIndex];
+    }
+
+    long getTurn() {
+        return turn;
+    }
+
+    /**
+     * Starts the turn of {@code playerIndex} and returns how long it may last.
+     */
+    long startTurn(int playerIndex, long nowMillis) {
+        turn++;
+        turnStartedMillis = nowMillis;
+        long limit = Long.MAX_VALUE;
+        if (timeControl.getMoveLimitMillis() > 0) {
+            limit = timeControl.getMoveLimitMillis();
+        }
+        if (timeControl.getClockMillis() > 0) {
+            limit = Math.min(limit, Math.max(0, remainingMillis[playerIndex]));
+        }
+        return limit;
+    }
+
+    /**
+     * Charges the time used for the turn that just ended and adds the increment.
+     */
+    void endTurn(int playerIndex, long nowMillis) {
+        if (timeControl.getClockMillis() > 0) {
+            remainingMillis[playerIndex] -= nowMillis - turnStartedMillis;
+            remainingMillis[playerIndex] += timeControl.getIncrementMillis();
+        }
+    }
+
+    Timeout getPendingTimeout() {
+        return pendingTimeout;
+    }
+
+    void setPendingTimeout(Timeout pendingTimeout) {
+        this.pendingTimeout = pendingTimeout;
+    }
+}
@@ -0,0 +1,122 @@
+package com.harsh.timer;
+
+import com.harsh.Models.Game;
+import com.harsh.Models.GameState;
+import com.harsh.Models.Player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Enforces time controls for every timed game on one shared {@link TimingWheel}.
+ * Each game has at most one pending deadline, the current player's; a move cancels it and
+ * schedules the next player's, both O(1). When a deadline passes the player to move forfeits.
+ *
+ * Moves and timeouts for the same game are serialised by synchronising on the game object.
+ */
+public class GameTimekeeper {
+    private final TimingWheel wheel;
+    private final Map<Game, GameClock> clocks = new ConcurrentHashMap<>();
+    private volatile Consumer<Game> timeoutListener = game -> { };
+
+    public GameTimekeeper(TimingWheel wheel) {
+        this.wheel = wheel;
+    }
+
+    public TimingWheel getWheel() {
+        return wheel;
+    }
+
+    /**
+     * Called after a game has been forfeited on time, on the wheel's thread.
+     */
+    public void setTimeoutListener(Consumer<Game> timeoutListener) {
+        this.timeoutListener = timeoutListener;
+    }
+
+    /**
+     * Starts the clock of the player to move. Games without a time control are ignored.
+     */
+    public void register(Game game) {
+        if (game.getTimeControl() == null || !game.getTimeControl().isTimed()) {
+            return;
+        }
+        synchronized (game) {
+            GameClock clock = new GameClock(game.getTimeControl(), game.getPlayers().size());
+            clocks.put(game, clock);
+            scheduleTurn(game, clock);
+        }
+    }
+
+    /**
+     * Called after a move was applied: charges the mover and starts the next player's clock,
+     * or stops timing the game if it is over.
+     */
+    public void onMove(Game game) {
+        GameClock clock = clocks.get(game);
+        if (clock == null) {
+            return;
+        }
+        synchronized (game) {
+            cancelPending(clock);
+            int moverIndex = (game.getNextPlayerMoveIndex() + game.getPlayers().size() - 1) % game.getPlayers().size();
+            clock.endTurn(moverIndex, wheel.currentTimeMillis());
+            if (game.getGameState() != GameState.InProgress) {
+                clocks.remove(game);
+                return;
+            }
+            scheduleTurn(game, clock);
+        }
+    }
+
+    /**
+     * Stops timing a game, e.g. when it is deleted before it finished.
+     */
+    public void unregister(Game game) {
+        GameClock clock = clocks.remove(game);
+        if (clock != null) {
+            synchronized (game) {
+                cancelPending(clock);
+            }
+        }
+    }
+
+    public GameClock getClock(Game game) {
+        return clocks.get(game);
+    }
+
+    public int getTimedGameCount() {
+        return clocks.size();
+    }
+
+    private void scheduleTurn(Game game, GameClock clock) {
+        int playerIndex = game.getNextPlayerMoveIndex();
+        long limit = clock.startTurn(playerIndex, wheel.currentTimeMillis());
+        if (limit == Long.MAX_VALUE) {
+            return;
+        }
+        long turn = clock.getTurn();
+        clock.setPendingTimeout(wheel.schedule(limit, () -> expire(game, clock, turn)));
+    }
+
+    private void cancelPending(GameClock clock) {
+        if (clock.getPendingTimeout() != null) {
+            clock.getPendingTimeout().cancel();
+            clock.setPendingTimeout(null);
+        }
+    }
+
+    private void expire(Game game, GameClock clock, long turn) {
+        synchronized (game) {
+            // A move may have slipped in between the wheel firing and this lock
+            if (clock.getTurn() != turn || game.getGameState() != GameState.InProgress) {
+                return;
+            }
+            Player loser = game.getPlayers().get(game.getNextPlayerMoveIndex());
+            game.forfeit(loser);
+            clocks.remove(game);
+        }
+        timeoutListener.accept(game);
+    }
+}
@@ -0,0 +1,40 @@
+package com.harsh.timer;
+
+/**
+ * Handle for a task scheduled on a {@link TimingWheel}. Also the node of the bucket's
+ * doubly-linked list, so cancelling is O(1).
+ */
+public class Timeout {
+    private final TimingWheel wheel;
+    private final Runnable task;
+    final long deadlineTick;
+    Timeout prev;
+    Timeout next;
+    TimerBucket bucket;
+    private boolean cancelled;
+
+    Timeout(TimingWheel wheel, long deadlineTick, Runnable task) {
+        this.wheel = wheel;
+        this.deadlineTick = deadlineTick;
+        this.task = task;
+    }
+
+    /**
+     * Cancels the task if it has not run yet. Returns false if it already fired or was cancelled.
+     */
+    public boolean cancel() {
+        return wheel.cancel(this);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    void markCancelled() {
+        cancelled = true;
+    }
+
+    Runnable getTask() {
+        return task;
+    }
+}
@@ -0,0 +1,44 @@
+package com.harsh.timer;
+
+/**
+ * One slot of a wheel level: an intrusive doubly-linked list of timeouts.
+ */
+class TimerBucket {
+    private Timeout head;
+
+    void add(Timeout timeout) {
+        timeout.bucket = this;
+        timeout.prev = null;
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        head = timeout;
+    }
+
+    void remove(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            head = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = null;
+    }
+
+    /**
+     * Unlinks and returns the whole list.
+     */
+    Timeout drain() {
+        Timeout first = head;
+        head = null;
+        for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+            timeout.bucket = null;
+        }
+        return first;
+    }
+}
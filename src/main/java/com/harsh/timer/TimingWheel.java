@@ -0,0 +1,192 @@
+package com.harsh.timer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical hashed timing wheel: one structure and one ticker thread for every pending
+ * deadline, however many games are running.
+ *
+ * Level 0 has 64 slots of one tick each, every further level has 64 slots covering 64 times the
+ * span of the level below. A timeout goes into the lowest level whose span covers its delay and
+ * is moved down (cascaded) when the lower levels wrap around, so scheduling, cancelling and
+ * expiring are O(1) per timeout. Deadlines beyond the top level's span wait in its last slot
+ * and are re-placed on every cascade.
+ *
+ * Expired tasks run on the thread that advances the wheel and must be short. A task that throws
+ * does not stop the others; its exception goes to the {@link #setErrorHandler error handler}.
+ */
+public class TimingWheel {
+    public static final long DEFAULT_TICK_MILLIS = 10;
+    private static final int WHEEL_BITS = 6;
+    private static final int SLOTS = 1 << WHEEL_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final long tickMillis;
+    private final LongSupplier clock;
+    private final long startMillis;
+    private final TimerBucket[][] levels = new TimerBucket[LEVELS][SLOTS];
+    private long currentTick;
+    private int pending;
+    private Thread ticker;
+    private volatile Consumer<RuntimeException> errorHandler = TimingWheel::reportUncaught;
+
+    public TimingWheel() {
+        this(DEFAULT_TICK_MILLIS, () -> System.nanoTime() / 1_000_000);
+    }
+
+    public TimingWheel(long tickMillis, LongSupplier clock) {
+        this.tickMillis = tickMillis;
+        this.clock = clock;
+        this.startMillis = clock.getAsLong();
+        for (TimerBucket[] level : levels) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                level[slot] = new TimerBucket();
+            }
+        }
+    }
+
+    /**
+     * Receives exceptions thrown by expired tasks, on the thread that advances the wheel. By
+     * default they go to that thread's uncaught exception handler, without stopping the wheel.
+     */
+    public void setErrorHandler(Consumer<RuntimeException> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    private static void reportUncaught(RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    /**
+     * Current time in milliseconds on the wheel's clock.
+     */
+    public long currentTimeMillis() {
+        return clock.getAsLong();
+    }
+
+    /**
+     * Runs {@code task} once {@code delayMillis} have passed, rounded up to the next tick.
+     */
+    public synchronized Timeout schedule(long delayMillis, Runnable task) {
+        long elapsedTicks = (clock.getAsLong() - startMillis) / tickMillis;
+        long delayTicks = Math.max(1, (delayMillis + tickMillis - 1) / tickMillis);
+        // Count from the wheel's position so a lagging ticker never fires a timeout early
+        Timeout timeout = new Timeout(this, Math.max(elapsedTicks, currentTick) + delayTicks, task);
+        place(timeout);
+        pending++;
+        return timeout;
+    }
+
+    synchronized boolean cancel(Timeout timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        timeout.markCancelled();
+        pending--;
+        return true;
+    }
+
+    public synchronized int getPendingCount() {
+        return pending;
+    }
+
+    private void place(Timeout timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (WHEEL_BITS * (level + 1))) {
+                int slot = (int) (timeout.deadlineTick >>> (WHEEL_BITS * level)) & SLOT_MASK;
+                levels[level][slot].add(timeout);
+                return;
+            }
+        }
+        // Beyond the wheel's span: park in the top-level slot that is cascaded last
+        int top = LEVELS - 1;
+        int slot = (int) ((currentTick >>> (WHEEL_BITS * top)) - 1) & SLOT_MASK;
+        levels[top][slot].add(timeout);
+    }
+
+    /**
+     * Moves the wheel up to the clock's current time and runs every task that expired.
+     *
+     * @return number of tasks run
+     */
+    public int advance() {
+        List<Timeout> expired = new ArrayList<>();
+        synchronized (this) {
+            long targetTick = (clock.getAsLong() - startMillis) / tickMillis;
+            while (currentTick < targetTick) {
+                currentTick++;
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) == 0) {
+                        int slot = (int) (currentTick >>> (WHEEL_BITS * level)) & SLOT_MASK;
+                        cascade(levels[level][slot].drain(), expired);
+                    }
+                }
+                collect(levels[0][(int) currentTick & SLOT_MASK].drain(), expired);
+            }
+            pending -= expired.size();
+        }
+        for (Timeout timeout : expired) {
+            try {
+                timeout.getTask().run();
+            } catch (RuntimeException e) {
+                errorHandler.accept(e);
+            }
+        }
+        return expired.size();
+    }
+
+    private void cascade(Timeout first, List<Timeout> expired) {
+        Timeout timeout = first;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadlineTick <= currentTick) {
+                expired.add(timeout);
+            } else {
+                place(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void collect(Timeout first, List<Timeout> expired) {
+        for (Timeout timeout = first; timeout != null; timeout = timeout.next) {
+            expired.add(timeout);
+        }
+    }
+
+    /**
+     * Starts a daemon thread that advances the wheel every tick.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(tickMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                advance();
+            }
+        }, "timing-wheel");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    public synchronized void stop() {
+        if (ticker != null) {
+            ticker.interrupt();
+            ticker = null;
+        }
+    }
+}
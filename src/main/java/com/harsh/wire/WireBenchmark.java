@@ -0,0 +1,124 @@
+package com.harsh.wire;
+
+import com.harsh.Models.GameState;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Drives moves through one {@link WireClient} connection as fast as the server answers them.
+ *
+ * A fixed number of games between two remote players are kept going at once, each with exactly
+ * one request in flight, so the connection always carries that many pipelined moves. Cells are
+ * played in row-major order; on a full-line board of even size the first player fills column 0
+ * on move {@code size * (size - 1) + 1}, after which the game is deleted and a new one created.
+ */
+public class WireBenchmark {
+    private final InetSocketAddress address;
+    private final int games;
+    private final int size;
+    private final long moves;
+
+    /**
+     * @param games games in play at once
+     * @param size  board size; each game is played to a full line
+     * @param moves moves to play in total
+     */
+    public WireBenchmark(InetSocketAddress address, int games, int size, long moves) {
+        this.address = address;
+        this.games = games;
+        this.size = size;
+        this.moves = moves;
+    }
+
+    public WireBenchmarkResult run() throws IOException {
+        try (WireClient client = new WireClient(address)) {
+            return new Driver(client).run();
+        }
+    }
+
+    /**
+     * State of one run. Responses come back in request order, so at most two requests per game
+     * (DELETE and CREATE) are outstanding and a ring indexed by request id finds the game and
+     * opcode a response belongs to.
+     */
+    private class Driver {
+        private final WireClient client;
+        private final WireBenchmarkResult result = new WireBenchmarkResult(games);
+        private final int[] slotOf = new int[2 * games];
+        private final byte[] opcodeOf = new byte[2 * games];
+        private final long[] gameIds = new long[games];
+        private final int[] nextCell = new int[games];
+        private int inFlight;
+        private long movesSent;
+
+        Driver(WireClient client) {
+            this.client = client;
+        }
+
+        WireBenchmarkResult run() throws IOException {
+            WireResponse response = new WireResponse();
+            long start = System.nanoTime();
+            for (int slot = 0; slot < games; slot++) {
+                track(client.create(size, size, null), slot, WireProtocol.CREATE);
+            }
+            while (inFlight > 0) {
+                client.read(response);
+                inFlight--;
+                result.addRequest();
+                if (!response.isOk()) {
+                    throw new IOException("Request " + response.getRequestId() + " failed with status "
+                            + response.getStatus() + ": " + response.getMessage());
+                }
+                int index = response.getRequestId() % slotOf.length;
+                int slot = slotOf[index];
+                if (opcodeOf[index] == WireProtocol.CREATE) {
+                    gameIds[slot] = response.getGameId();
+                    nextCell[slot] = 0;
+                    sendMove(slot);
+                } else if (opcodeOf[index] == WireProtocol.MOVE) {
+                    result.addMove();
+                    if (response.getGameState() == GameState.InProgress) {
+                        sendMove(slot);
+                    } else {
+                        result.addGameCompleted();
+                        track(client.delete(gameIds[slot]), slot, WireProtocol.DELETE);
+                        gameIds[slot] = 0;
+                        if (movesSent < moves) {
+                            track(client.create(size, size, null), slot, WireProtocol.CREATE);
+                        }
+                    }
+                }
+            }
+            result.setElapsedNanos(System.nanoTime() - start);
+
+            // Games cut off by the move limit are still in progress
+            for (long gameId : gameIds) {
+                if (gameId != 0) {
+                    client.delete(gameId);
+                    inFlight++;
+                }
+            }
+            for (; inFlight > 0; inFlight--) {
+                client.read(response);
+            }
+            return result;
+        }
+
+        private void sendMove(int slot) {
+            if (movesSent == moves) {
+                return;
+            }
+            int cell = nextCell[slot]++;
+            track(client.move(gameIds[slot], cell / size, cell % size), slot, WireProtocol.MOVE);
+            movesSent++;
+        }
+
+        private void track(int requestId, int slot, byte opcode) {
+            int index = requestId % slotOf.length;
+            slotOf[index] = slot;
+            opcodeOf[index] = opcode;
+            inFlight++;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.harsh.wire;
+
+/**
+ * Totals of a {@link WireBenchmark} run.
+ */
+public class WireBenchmarkResult {
+    private final int games;
+    private long moves;
+    private long requests;
+    private long gamesCompleted;
+    private long elapsedNanos;
+
+    public WireBenchmarkResult(int games) {
+        this.games = games;
+    }
+
+    void addMove() {
+        moves++;
+    }
+
+    void addRequest() {
+        requests++;
+    }
+
+    void addGameCompleted() {
+        gamesCompleted++;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Games kept in play at once, which is also the number of moves in flight.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getGamesCompleted() {
+        return gamesCompleted;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getMovesPerSecond() {
+        return elapsedNanos == 0 ? 0 : moves * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    public double getRequestsPerSecond() {
+        return elapsedNanos == 0 ? 0 : requests * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d moves=%d requests=%d completed=%d elapsed=%.3fs moves/s=%.0f requests/s=%.0f",
+                games, moves, requests, gamesCompleted, elapsedNanos / 1e9, getMovesPerSecond(),
+                getRequestsPerSecond());
+    }
+}
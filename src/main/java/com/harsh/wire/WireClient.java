@@ -0,0 +1,115 @@
+package com.harsh.wire;
+
+import com.harsh.Models.BotDifficultyLevel;
+import com.harsh.codec.MoveRequest;
+import com.harsh.codec.OutputBuffer;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Blocking {@link WireProtocol} client that pipelines: the request methods only queue a frame and
+ * return its request id, and everything queued goes out in one write when {@link #flush()} is
+ * called or {@link #read} needs a response that has not arrived yet.
+ *
+ * Keep the requests in flight within what the socket buffers hold (thousands of moves); a client
+ * that keeps writing without reading stalls once the server stops reading to let it catch up.
+ * Not thread-safe.
+ */
+public class WireClient implements Closeable {
+    private final SocketChannel channel;
+    private final OutputBuffer out = new OutputBuffer(16 * 1024);
+    private final ByteBuffer in = ByteBuffer.allocate(4 + WireProtocol.MAX_FRAME_BYTES);
+    private final MoveRequest moveRequest = new MoveRequest();
+    private int nextRequestId = 1;
+
+    public WireClient(InetSocketAddress address) throws IOException {
+        this.channel = SocketChannel.open(address);
+        this.channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        in.flip();
+    }
+
+    /**
+     * @param bot difficulty of the bot in the second seat, or null for a second human
+     */
+    public int create(int size, int winLength, BotDifficultyLevel bot) {
+        int requestId = nextRequestId++;
+        WireProtocol.writeCreate(out, requestId, size, winLength, bot);
+        return requestId;
+    }
+
+    public int move(long gameId, int row, int col) {
+        int requestId = nextRequestId++;
+        moveRequest.setGameId(gameId);
+        moveRequest.setRow(row);
+        moveRequest.setCol(col);
+        WireProtocol.writeMove(out, requestId, moveRequest);
+        return requestId;
+    }
+
+    public int getState(long gameId) {
+        int requestId = nextRequestId++;
+        WireProtocol.writeGetState(out, requestId, gameId);
+        return requestId;
+    }
+
+    public int delete(long gameId) {
+        int requestId = nextRequestId++;
+        WireProtocol.writeDelete(out, requestId, gameId);
+        return requestId;
+    }
+
+    /**
+     * Sends every queued request.
+     */
+    public void flush() throws IOException {
+        ByteBuffer pending = ByteBuffer.wrap(out.array(), 0, out.size());
+        while (pending.hasRemaining()) {
+            channel.write(pending);
+        }
+        out.reset();
+    }
+
+    /**
+     * Reads the next response into {@code response}, flushing queued requests first if it has
+     * to wait for the network.
+     */
+    public WireResponse read(WireResponse response) throws IOException {
+        while (!hasFrame()) {
+            if (out.size() > 0) {
+                flush();
+            }
+            in.compact();
+            int read = channel.read(in);
+            in.flip();
+            if (read < 0) {
+                throw new EOFException("Server closed the connection");
+            }
+        }
+        int length = in.getInt(in.position());
+        response.read(in, in.position() + 4, length);
+        in.position(in.position() + 4 + length);
+        return response;
+    }
+
+    private boolean hasFrame() throws IOException {
+        if (in.remaining() < 4) {
+            return false;
+        }
+        int length = in.getInt(in.position());
+        if (length < WireProtocol.HEADER_BYTES || length > WireProtocol.MAX_FRAME_BYTES) {
+            throw new IOException("Bad frame length " + length);
+        }
+        return in.remaining() >= 4 + length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,300 @@
+package com.harsh.wire;
+
+import com.harsh.Models.BotDifficultyLevel;
+import com.harsh.Models.Game;
+import com.harsh.codec.GameBinaryCodec;
+import com.harsh.codec.MoveRequest;
+import com.harsh.codec.OutputBuffer;
+import com.harsh.exceptions.InvalidMoveException;
+import com.harsh.exceptions.MemoryBudgetExceededException;
+import com.harsh.server.BotTurn;
+import com.harsh.server.GameRegistry;
+import com.harsh.server.GameServer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * One client connection, owned by a single {@link WireServer} event loop.
+ *
+ * Every request that has fully arrived is handled as soon as it is read and its response is
+ * appended to one output buffer, so a pipelined batch costs one read and one write. When the
+ * client does not read its responses the connection stops reading requests until they drain.
+ *
+ * A move that a bot answers is handed to the server's bot workers, and the connection reads and
+ * handles nothing more until the loop writes that response, so responses keep request order.
+ *
+ * The games a connection creates are its own: wire games have no time control to expire them,
+ * so any the client has not deleted are removed from the registry when the connection closes.
+ */
+class WireConnection {
+    /**
+     * Output size at which requests stop being handled until the client catches up.
+     */
+    private static final int OUTPUT_HIGH_WATER = 256 * 1024;
+    private static final BotDifficultyLevel[] BOT_LEVELS = BotDifficultyLevel.values();
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final GameRegistry registry;
+    private final Executor botWorkers;
+    private final Executor loop;
+    private final ByteBuffer in = ByteBuffer.allocate(4 + WireProtocol.MAX_FRAME_BYTES);
+    private final OutputBuffer out = new OutputBuffer(16 * 1024);
+    private final MoveRequest moveRequest = new MoveRequest();
+    private final Set<Long> createdGames = new HashSet<>();
+    private int flushed;
+    private boolean awaitingBot;
+
+    /**
+     * @param botWorkers where bot replies are computed
+     * @param loop       runs tasks on the thread that owns this connection
+     */
+    WireConnection(SocketChannel channel, SelectionKey key, GameRegistry registry, Executor botWorkers,
+                   Executor loop) {
+        this.channel = channel;
+        this.key = key;
+        this.registry = registry;
+        this.botWorkers = botWorkers;
+        this.loop = loop;
+    }
+
+    void onReadable() throws IOException {
+        if (channel.read(in) < 0) {
+            close();
+            return;
+        }
+        drain();
+    }
+
+    void onWritable() throws IOException {
+        drain();
+    }
+
+    void close() {
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // already gone
+        }
+        for (long gameId : createdGames) {
+            registry.removeGame(gameId);
+        }
+        createdGames.clear();
+    }
+
+    /**
+     * Handles buffered requests and writes responses until the input is used up or the socket
+     * is full, then waits for whichever of the two can move again.
+     */
+    private void drain() throws IOException {
+        boolean more;
+        do {
+            more = handleFrames();
+            if (!flush()) {
+                key.interestOps(SelectionKey.OP_WRITE);
+                return;
+            }
+        } while (more);
+        key.interestOps(awaitingBot ? 0 : SelectionKey.OP_READ);
+    }
+
+    /**
+     * @return true if it stopped at the output high water mark with requests still buffered
+     */
+    private boolean handleFrames() throws IOException {
+        in.flip();
+        try {
+            while (in.remaining() >= 4 && out.size() < OUTPUT_HIGH_WATER && !awaitingBot) {
+                int position = in.position();
+                int length = in.getInt(position);
+                if (length < WireProtocol.HEADER_BYTES || length > WireProtocol.MAX_FRAME_BYTES) {
+                    throw new IOException("Bad frame length " + length);
+                }
+                if (in.remaining() < 4 + length) {
+                    break;
+                }
+                handle(position + 4, length);
+                in.position(position + 4 + length);
+            }
+            return in.remaining() >= 4 && out.size() >= OUTPUT_HIGH_WATER;
+        } finally {
+            in.compact();
+        }
+    }
+
+    /**
+     * @return true once everything written so far has gone to the socket
+     */
+    private boolean flush() throws IOException {
+        if (flushed < out.size()) {
+            flushed += channel.write(ByteBuffer.wrap(out.array(), flushed, out.size() - flushed));
+            if (flushed < out.size()) {
+                return false;
+            }
+        }
+        out.reset();
+        flushed = 0;
+        return true;
+    }
+
+    private void handle(int offset, int length) {
+        int requestId = in.getInt(offset);
+        byte opcode = in.get(offset + 4);
+        int payload = offset + WireProtocol.HEADER_BYTES;
+        int payloadLength = length - WireProtocol.HEADER_BYTES;
+        switch (opcode) {
+            case WireProtocol.CREATE -> {
+                if (payloadLength < WireProtocol.CREATE_BYTES) {
+                    error(requestId, WireProtocol.BAD_REQUEST, "Short CREATE");
+                    return;
+                }
+                create(requestId, in.getShort(payload), in.getShort(payload + 2), in.get(payload + 4));
+            }
+            case WireProtocol.MOVE -> {
+                if (payloadLength < GameBinaryCodec.MOVE_REQUEST_BYTES) {
+                    error(requestId, WireProtocol.BAD_REQUEST, "Short MOVE");
+                    return;
+                }
+                move(requestId, GameBinaryCodec.readMoveRequest(in.array(), payload, moveRequest));
+            }
+            case WireProtocol.GET_STATE, WireProtocol.DELETE -> {
+                if (payloadLength < WireProtocol.GAME_ID_BYTES) {
+                    error(requestId, WireProtocol.BAD_REQUEST, "Missing game id");
+                    return;
+                }
+                long gameId = in.getLong(payload);
+                if (opcode == WireProtocol.GET_STATE) {
+                    getState(requestId, gameId);
+                } else {
+                    delete(requestId, gameId);
+                }
+            }
+            default -> error(requestId, WireProtocol.BAD_REQUEST, "Unknown opcode " + opcode);
+        }
+    }
+
+    private void create(int requestId, int dimension, int winLength, int bot) {
+        if (dimension < 1 || dimension > GameServer.MAX_DIMENSION || winLength < 1 || winLength > dimension
+                || bot < -1 || bot >= BOT_LEVELS.length) {
+            error(requestId, WireProtocol.BAD_REQUEST, "Invalid size, win length or bot level");
+            return;
+        }
+        long id;
+        try {
+            id = registry.createGame(dimension, winLength, null, bot < 0 ? null : BOT_LEVELS[bot]);
+        } catch (MemoryBudgetExceededException e) {
+            error(requestId, WireProtocol.SERVER_FULL, e.getMessage());
+            return;
+        }
+        createdGames.add(id);
+        int lengthAt = WireProtocol.begin(out, requestId, WireProtocol.OK);
+        out.writeLong(id);
+        WireProtocol.end(out, lengthAt);
+    }
+
+    private void move(int requestId, MoveRequest request) {
+        Game game = registry.getGame(request.getGameId());
+        if (game == null) {
+            error(requestId, WireProtocol.NOT_FOUND, "Game not found");
+            return;
+        }
+        BotTurn botTurn;
+        try {
+            botTurn = registry.playMove(game, request.getRow(), request.getCol());
+        } catch (InvalidMoveException e) {
+            error(requestId, WireProtocol.ILLEGAL_MOVE, e.getMessage());
+            return;
+        }
+        if (botTurn == null) {
+            moveResult(requestId, game, -1);
+            return;
+        }
+        try {
+            botWorkers.execute(() -> playBotTurn(requestId, game, botTurn));
+            awaitingBot = true;
+        } catch (RejectedExecutionException e) {
+            error(requestId, WireProtocol.SERVER_ERROR, "Server is shutting down");
+        }
+    }
+
+    /**
+     * Runs on a bot worker and hands the result back to the loop.
+     */
+    private void playBotTurn(int requestId, Game game, BotTurn botTurn) {
+        int botCell = -1;
+        String failure = null;
+        try {
+            botCell = registry.playBotTurn(game, botTurn);
+        } catch (InvalidMoveException | RuntimeException e) {
+            failure = "Bot failed to move: " + e.getMessage();
+        }
+        int cell = botCell;
+        String message = failure;
+        loop.execute(() -> botReplied(requestId, game, cell, message));
+    }
+
+    private void botReplied(int requestId, Game game, int botCell, String failure) {
+        awaitingBot = false;
+        if (!channel.isOpen()) {
+            return;
+        }
+        if (failure != null) {
+            error(requestId, WireProtocol.SERVER_ERROR, failure);
+        } else {
+            moveResult(requestId, game, botCell);
+        }
+        try {
+            drain();
+        } catch (IOException | RuntimeException e) {
+            close();
+        }
+    }
+
+    private void moveResult(int requestId, Game game, int botCell) {
+        int lengthAt = WireProtocol.begin(out, requestId, WireProtocol.OK);
+        synchronized (game) {
+            out.writeByte(game.getGameState().ordinal())
+                    .writeByte(game.getNextPlayerMoveIndex())
+                    .writeByte(game.getWinner() == null ? -1 : game.getPlayers().indexOf(game.getWinner()))
+                    .writeInt(game.getMoves().size())
+                    .writeInt(botCell);
+        }
+        WireProtocol.end(out, lengthAt);
+    }
+
+    private void getState(int requestId, long gameId) {
+        Game game = registry.getGame(gameId);
+        if (game == null) {
+            error(requestId, WireProtocol.NOT_FOUND, "Game not found");
+            return;
+        }
+        int lengthAt = WireProtocol.begin(out, requestId, WireProtocol.OK);
+        synchronized (game) {
+            GameBinaryCodec.writeGame(out, gameId, game);
+        }
+        WireProtocol.end(out, lengthAt);
+    }
+
+    private void delete(int requestId, long gameId) {
+        if (registry.removeGame(gameId) == null) {
+            error(requestId, WireProtocol.NOT_FOUND, "Game not found");
+            return;
+        }
+        createdGames.remove(gameId);
+        WireProtocol.end(out, WireProtocol.begin(out, requestId, WireProtocol.OK));
+    }
+
+    private void error(int requestId, byte status, String message) {
+        int lengthAt = WireProtocol.begin(out, requestId, status);
+        out.writeUtf8(message);
+        WireProtocol.end(out, lengthAt);
+    }
+}
@@ -0,0 +1,95 @@
+package com.harsh.wire;
+
+import com.harsh.Models.BotDifficultyLevel;
+import com.harsh.codec.GameBinaryCodec;
+import com.harsh.codec.MoveRequest;
+import com.harsh.codec.OutputBuffer;
+
+/**
+ * Length-prefixed binary protocol for automated clients, served by {@link WireServer}.
+ *
+ * A client may send any number of requests without waiting, for any games; each response carries
+ * the id of the request it answers. Requests on one connection are answered in the order sent.
+ * Wire format, big-endian, each frame prefixed with the length of the rest:
+ * <pre>
+ * request:  int length, int requestId, byte opcode, payload
+ *   CREATE:    short size, short winLength, byte bot (-1 for a second human, else the
+ *              {@link BotDifficultyLevel} ordinal)
+ *   MOVE:      long gameId, short row, short col (a {@link GameBinaryCodec} move request)
+ *   GET_STATE: long gameId
+ *   DELETE:    long gameId
+ * response: int length, int requestId, byte status, payload
+ *   OK to CREATE:    long gameId
+ *   OK to MOVE:      byte state, byte next, byte winner (-1 if none), int moveCount,
+ *                    int botCell (row * size + col of the bot's reply, -1 if it did not move)
+ *   OK to GET_STATE: a {@link GameBinaryCodec} game
+ *   OK to DELETE:    nothing
+ *   any error:       UTF-8 message
+ * </pre>
+ * State is the {@link com.harsh.Models.GameState} ordinal. Frames longer than
+ * {@link #MAX_FRAME_BYTES} close the connection.
+ */
+public class WireProtocol {
+    public static final byte CREATE = 1;
+    public static final byte MOVE = 2;
+    public static final byte GET_STATE = 3;
+    public static final byte DELETE = 4;
+
+    public static final byte OK = 0;
+    public static final byte NOT_FOUND = 1;
+    public static final byte ILLEGAL_MOVE = 2;
+    public static final byte BAD_REQUEST = 3;
+    public static final byte SERVER_FULL = 4;
+    public static final byte SERVER_ERROR = 5;
+
+    public static final int MAX_FRAME_BYTES = 64 * 1024;
+    /**
+     * Request id and opcode, or request id and status.
+     */
+    public static final int HEADER_BYTES = 4 + 1;
+    public static final int CREATE_BYTES = 2 + 2 + 1;
+    public static final int GAME_ID_BYTES = 8;
+    public static final int MOVE_RESULT_BYTES = 3 + 4 + 4;
+
+    /**
+     * @param bot difficulty of the bot in the second seat, or null for a second human
+     */
+    public static void writeCreate(OutputBuffer out, int requestId, int size, int winLength, BotDifficultyLevel bot) {
+        int lengthAt = begin(out, requestId, CREATE);
+        out.writeShort(size).writeShort(winLength).writeByte(bot == null ? -1 : bot.ordinal());
+        end(out, lengthAt);
+    }
+
+    public static void writeMove(OutputBuffer out, int requestId, MoveRequest request) {
+        int lengthAt = begin(out, requestId, MOVE);
+        GameBinaryCodec.writeMoveRequest(out, request);
+        end(out, lengthAt);
+    }
+
+    public static void writeGetState(OutputBuffer out, int requestId, long gameId) {
+        int lengthAt = begin(out, requestId, GET_STATE);
+        out.writeLong(gameId);
+        end(out, lengthAt);
+    }
+
+    public static void writeDelete(OutputBuffer out, int requestId, long gameId) {
+        int lengthAt = begin(out, requestId, DELETE);
+        out.writeLong(gameId);
+        end(out, lengthAt);
+    }
+
+    /**
+     * Starts a frame: a length placeholder, the request id and the opcode or status.
+     *
+     * @return position of the length, for {@link #end}
+     */
+    static int begin(OutputBuffer out, int requestId, byte kind) {
+        int lengthAt = out.size();
+        out.writeInt(0).writeInt(requestId).writeByte(kind);
+        return lengthAt;
+    }
+
+    static void end(OutputBuffer out, int lengthAt) {
+        out.putInt(lengthAt, out.size() - lengthAt - 4);
+    }
+}
@@ -0,0 +1,94 @@
+package com.harsh.wire;
+
+import com.harsh.Models.GameRecord;
+import com.harsh.Models.GameState;
+import com.harsh.codec.GameBinaryCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A response read by {@link WireClient}. Mutable so one instance can be read into per response;
+ * the payload getters decode the fields {@link WireProtocol} defines for the request's opcode.
+ */
+public class WireResponse {
+    private static final GameState[] GAME_STATES = GameState.values();
+
+    private int requestId;
+    private byte status;
+    private byte[] payload = new byte[64];
+    private int length;
+
+    void read(ByteBuffer frame, int offset, int frameLength) {
+        requestId = frame.getInt(offset);
+        status = frame.get(offset + 4);
+        length = frameLength - WireProtocol.HEADER_BYTES;
+        if (payload.length < length) {
+            payload = Arrays.copyOf(payload, Math.max(payload.length * 2, length));
+        }
+        frame.get(offset + WireProtocol.HEADER_BYTES, payload, 0, length);
+    }
+
+    public int getRequestId() {
+        return requestId;
+    }
+
+    public byte getStatus() {
+        return status;
+    }
+
+    public boolean isOk() {
+        return status == WireProtocol.OK;
+    }
+
+    /**
+     * Id of the game an OK CREATE made.
+     */
+    public long getGameId() {
+        return ByteBuffer.wrap(payload).getLong(0);
+    }
+
+    /**
+     * State after an OK MOVE.
+     */
+    public GameState getGameState() {
+        return GAME_STATES[payload[0]];
+    }
+
+    public int getNextPlayerIndex() {
+        return payload[1];
+    }
+
+    /**
+     * Index of the winner after an OK MOVE, or -1.
+     */
+    public int getWinnerIndex() {
+        return payload[2];
+    }
+
+    public int getMoveCount() {
+        return ByteBuffer.wrap(payload).getInt(3);
+    }
+
+    /**
+     * Cell the bot replied on after an OK MOVE, or -1.
+     */
+    public int getBotCell() {
+        return ByteBuffer.wrap(payload).getInt(7);
+    }
+
+    /**
+     * The game sent in answer to GET_STATE.
+     */
+    public GameRecord getGame() {
+        return GameBinaryCodec.readGame(payload, 0, length);
+    }
+
+    /**
+     * Error text of a response that is not OK.
+     */
+    public String getMessage() {
+        return new String(payload, 0, length, StandardCharsets.UTF_8);
+    }
+}
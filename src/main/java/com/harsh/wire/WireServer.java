@@ -0,0 +1,221 @@
+package com.harsh.wire;
+
+import com.harsh.server.GameRegistry;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Serves {@link WireProtocol} on its own port, next to the HTTP API and over the same
+ * {@link GameRegistry}, for bots and engines that would otherwise pay HTTP overhead per move.
+ *
+ * An acceptor thread hands connections round-robin to a fixed set of event loops, each a thread
+ * with its own selector. A connection stays on one loop, which reads, handles and answers its
+ * requests. Bot replies are the exception: they take up to a move time, so they are computed on a
+ * shared worker pool and the response is written back on the loop when the bot has played. Until
+ * then that connection handles no further requests, which keeps its responses in request order,
+ * while the loop goes on serving its other connections. Moves reach spectators through the
+ * registry's move listener, which the HTTP server sets. Games created over a connection are
+ * deleted when it closes.
+ */
+public class WireServer {
+    public static final int DEFAULT_PORT = 9090;
+    private static final int BOT_THREADS = Runtime.getRuntime().availableProcessors();
+
+    private final ServerSocketChannel serverChannel;
+    private final GameRegistry registry;
+    private final EventLoop[] loops;
+    private final ExecutorService botWorkers;
+    private final Thread acceptor;
+    private volatile boolean running;
+    private volatile Consumer<IOException> errorHandler = WireServer::reportUncaught;
+
+    /**
+     * @param loops event loop threads
+     */
+    public WireServer(InetSocketAddress address, GameRegistry registry, int loops) throws IOException {
+        this.registry = registry;
+        AtomicInteger botThreads = new AtomicInteger();
+        this.botWorkers = Executors.newFixedThreadPool(BOT_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "wire-bot-" + botThreads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.serverChannel = ServerSocketChannel.open().bind(address);
+        this.loops = new EventLoop[Math.max(1, loops)];
+        for (int i = 0; i < this.loops.length; i++) {
+            this.loops[i] = new EventLoop(i);
+        }
+        this.acceptor = new Thread(this::accept, "wire-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        for (EventLoop loop : loops) {
+            loop.thread.start();
+        }
+        acceptor.start();
+    }
+
+    public void stop() {
+        running = false;
+        try {
+            serverChannel.close();
+        } catch (IOException ignored) {
+            // closing anyway
+        }
+        for (EventLoop loop : loops) {
+            loop.selector.wakeup();
+        }
+        botWorkers.shutdownNow();
+    }
+
+    /**
+     * Receives the error that stops an event loop, on that loop's thread. By default it goes to
+     * the thread's uncaught exception handler.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    private static void reportUncaught(IOException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    public GameRegistry getRegistry() {
+        return registry;
+    }
+
+    private void accept() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                channel.configureBlocking(false);
+                loops[next].add(channel);
+                next = (next + 1) % loops.length;
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException e) {
+                if (!running) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private class EventLoop implements Runnable, Executor {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+        EventLoop(int index) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, "wire-loop-" + index);
+            this.thread.setDaemon(true);
+        }
+
+        void add(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        /**
+         * Runs the task on this loop's thread, e.g. to answer a request once a worker is done.
+         */
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (running) {
+                    selector.select();
+                    register();
+                    runTasks();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        serve(key);
+                    }
+                }
+            } catch (IOException e) {
+                errorHandler.accept(e);
+            } finally {
+                closeAll();
+            }
+        }
+
+        private void register() {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                try {
+                    SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+                    key.attach(new WireConnection(channel, key, registry, botWorkers, this));
+                } catch (ClosedChannelException e) {
+                    // the client left before it was served
+                }
+            }
+        }
+
+        private void runTasks() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        private void serve(SelectionKey key) {
+            WireConnection connection = (WireConnection) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    connection.onReadable();
+                } else if (key.isWritable()) {
+                    connection.onWritable();
+                }
+            } catch (IOException | RuntimeException e) {
+                // A broken or misbehaving client loses its connection, not the loop
+                connection.close();
+            }
+        }
+
+        private void closeAll() {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof WireConnection connection) {
+                    connection.close();
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // closing anyway
+            }
+        }
+    }
+}
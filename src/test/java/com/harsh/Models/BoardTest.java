@@ -41,4 +41,13 @@ class BoardTest {
         board.setSize(5);
         assertEquals(5, board.getSize());
     }
+
+    @Test
+    void testWinLengthMustFitTheBoard() {
+        assertThrows(IllegalArgumentException.class, () -> new Board(3, 4));
+        assertThrows(IllegalArgumentException.class, () -> new Board(3, 0));
+        assertThrows(IllegalArgumentException.class, () -> board.setWinLength(4));
+        board.setWinLength(2);
+        assertEquals(2, board.getWinLength());
+    }
 }
@@ -60,4 +60,25 @@ class GameTest {
         // Game should be in a terminal state
         assertTrue(game.getGameState() == GameState.ENDED || game.getGameState() == GameState.DRAW);
     }
+
+    @Test
+    void testUndoTakesBackAWinningMove() throws InvalidMoveException {
+        // X: 0, 1 then 2 completes the top row; O: 3, 4
+        game.replayMoves(new int[]{0, 3, 1, 4, 2}, 5, true);
+        assertEquals(GameState.ENDED, game.getGameState());
+
+        game.undoLastMove();
+        assertEquals(GameState.InProgress, game.getGameState());
+        assertNull(game.getWinner());
+        assertEquals(4, game.getMoves().size());
+        assertEquals(0, game.getNextPlayerMoveIndex());
+        assertEquals(CellState.EMPTY, game.getBoard().getBoard().get(0).get(2).getCellState());
+
+        // The row count was taken back too: X elsewhere does not win, O completing its row does
+        game.applyMove(new Move(new Cell(2, 2), players.get(0)));
+        assertEquals(GameState.InProgress, game.getGameState());
+        game.applyMove(new Move(new Cell(1, 2), players.get(1)));
+        assertEquals(GameState.ENDED, game.getGameState());
+        assertEquals(players.get(1), game.getWinner());
+    }
 }
@@ -0,0 +1,76 @@
+package com.harsh.codec;
+
+import com.harsh.Models.*;
+import com.harsh.controller.GameController;
+import com.harsh.exceptions.InvalidMoveException;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit tests for GameBinaryCodec class
+ */
+class GameBinaryCodecTest {
+
+    @Test
+    void testGameRoundTrip() throws InvalidMoveException {
+        List<Player> players = List.of(
+                new Player("Zoë", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Bot", new Symbol('O'), PlayerType.BOT)
+        );
+        Game game = new Game(4, players);
+        int[] cells = {0, 5, 1, 6, 2, 7, 3};
+        game.replayMoves(cells, cells.length, true);
+
+        OutputBuffer out = new OutputBuffer(16);
+        GameBinaryCodec.writeGame(out, 123_456_789_012L, game);
+        assertEquals(17 + (5 + 4) + (5 + 3) + 4 + 4 * cells.length, out.size());
+        assertEquals(123_456_789_012L, GameBinaryCodec.readGameId(out.array(), 0));
+
+        GameRecord record = GameBinaryCodec.readGame(out.array(), 0, out.size());
+        assertEquals(4, record.getDimension());
+        assertEquals(4, record.getWinLength());
+        assertArrayEquals(cells, record.getMoves());
+        assertEquals("Zoë", record.getPlayers().get(0).getName());
+        assertEquals('O', record.getPlayers().get(1).getSymbol().getaChar());
+        assertEquals(PlayerType.BOT, record.getPlayers().get(1).getPlayerType());
+
+        Game copy = new GameController().replay(record, true);
+        assertEquals(GameState.ENDED, copy.getGameState());
+        assertEquals("Zoë", copy.getWinner().getName());
+        OutputBuffer again = new OutputBuffer(16);
+        GameBinaryCodec.writeGame(again, 123_456_789_012L, copy);
+        assertArrayEquals(out.toByteArray(), again.toByteArray());
+    }
+
+    @Test
+    void testMoveRequestRoundTrip() {
+        OutputBuffer out = new OutputBuffer(16);
+        out.writeByte(0xAB);
+        GameBinaryCodec.writeMoveRequest(out, new MoveRequest(-5, 63, 0));
+        assertEquals(1 + GameBinaryCodec.MOVE_REQUEST_BYTES, out.size());
+
+        MoveRequest request = GameBinaryCodec.readMoveRequest(out.array(), 1, new MoveRequest());
+        assertEquals(-5, request.getGameId());
+        assertEquals(63, request.getRow());
+        assertEquals(0, request.getCol());
+    }
+
+    @Test
+    void testRejectsTruncatedGame() {
+        Game game = new Game(3, List.of(
+                new Player("A", new Symbol('X'), PlayerType.HUMAN),
+                new Player("B", new Symbol('O'), PlayerType.HUMAN)));
+        OutputBuffer out = new OutputBuffer(16);
+        GameBinaryCodec.writeGame(out, 1, game);
+        byte[] bytes = out.toByteArray();
+
+        for (int length = 0; length < bytes.length; length++) {
+            byte[] truncated = Arrays.copyOf(bytes, length);
+            assertThrows(IllegalArgumentException.class,
+                    () -> GameBinaryCodec.readGame(truncated, 0, truncated.length), "length " + length);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.harsh.codec;
+
+import com.harsh.Models.*;
+import com.harsh.controller.GameController;
+import com.harsh.exceptions.InvalidMoveException;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Unit tests for GameJsonCodec class
+ */
+class GameJsonCodecTest {
+    private Game game;
+    private OutputBuffer out;
+    private JsonReader reader;
+
+    @BeforeEach
+    void setUp() throws InvalidMoveException {
+        List<Player> players = List.of(
+                new Player("Ann \"the \\ champ\"", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Bötchen ✓", new Symbol('O'), PlayerType.BOT)
+        );
+        game = new Game(3, players);
+        game.applyMove(new Move(new Cell(0, 0), players.get(0)));
+        game.applyMove(new Move(new Cell(1, 1), players.get(1)));
+        game.applyMove(new Move(new Cell(0, 1), players.get(0)));
+        out = new OutputBuffer(16);
+        reader = new JsonReader();
+    }
+
+    private String text() {
+        return new String(out.array(), 0, out.size(), StandardCharsets.UTF_8);
+    }
+
+    private JsonReader read() {
+        return reader.reset(out.array(), 0, out.size());
+    }
+
+    @Test
+    void testWritesGame() {
+        GameJsonCodec.writeGame(out, 7, game);
+        String json = text();
+
+        assertTrue(json.startsWith("{\"id\":7,\"size\":3,\"winLength\":3,\"state\":\"InProgress\",\"next\":1,\"moves\":3,\"winner\":null,"));
+        assertTrue(json.contains("{\"name\":\"Ann \\\"the \\\\ champ\\\"\",\"symbol\":\"X\",\"type\":\"HUMAN\"}"));
+        assertTrue(json.contains("\"rows\":[\"XX.\",\".O.\",\"...\"]"));
+        assertTrue(json.endsWith("\"history\":[0,4,1]}"));
+    }
+
+    @Test
+    void testGameRoundTrip() throws InvalidMoveException {
+        GameJsonCodec.writeGame(out, 7, game);
+        GameRecord record = GameJsonCodec.readGame(read());
+
+        assertEquals(3, record.getDimension());
+        assertArrayEquals(new int[]{0, 4, 1}, record.getMoves());
+        assertEquals("Ann \"the \\ champ\"", record.getPlayers().get(0).getName());
+        assertEquals("Bötchen ✓", record.getPlayers().get(1).getName());
+        assertEquals(PlayerType.BOT, record.getPlayers().get(1).getPlayerType());
+
+        Game copy = new GameController().replay(record, true);
+        OutputBuffer again = new OutputBuffer(16);
+        GameJsonCodec.writeGame(again, 7, copy);
+        assertEquals(text(), new String(again.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testMoveRoundTrip() {
+        Move move = game.getMoves().get(1);
+        GameJsonCodec.writeMove(out, move);
+        assertEquals("{\"row\":1,\"col\":1,\"symbol\":\"O\"}", text());
+
+        MoveRequest request = GameJsonCodec.readMoveRequest(read(), new MoveRequest());
+        assertEquals(1, request.getRow());
+        assertEquals(1, request.getCol());
+        assertEquals(0, request.getGameId());
+    }
+
+    @Test
+    void testReadsMoveRequestWithWhitespaceAndUnknownFields() {
+        byte[] json = " { \"comment\" : {\"a\":[1,\"]\",null]} , \"col\":-2,\n\"gameId\": 9000000000, \"row\" : 12 } "
+                .getBytes(StandardCharsets.UTF_8);
+        MoveRequest request = GameJsonCodec.readMoveRequest(reader.reset(json, 0, json.length), new MoveRequest());
+        assertEquals(12, request.getRow());
+        assertEquals(-2, request.getCol());
+        assertEquals(9_000_000_000L, request.getGameId());
+    }
+
+    @Test
+    void testRejectsMalformedMoveRequests() {
+        for (String json : new String[]{"", "{\"row\":1}", "{\"row\":1,\"col\":}", "[1,2]", "{\"row\":99999999999,\"col\":1}"}) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            assertThrows(IllegalArgumentException.class,
+                    () -> GameJsonCodec.readMoveRequest(reader.reset(bytes, 0, bytes.length), new MoveRequest()), json);
+        }
+    }
+
+    @Test
+    void testAllocationPerRequest() {
+        // One request: parse a move body, then encode the game state the server sends back
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        byte[] body = "{\"row\":2,\"col\":2}".getBytes(StandardCharsets.UTF_8);
+        MoveRequest request = new MoveRequest();
+        int requests = 20_000;
+
+        for (int i = 0; i < requests; i++) {
+            handle(body, request);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < requests; i++) {
+            handle(body, request);
+        }
+        long codecBytes = (threads.getThreadAllocatedBytes(threadId) - before) / requests;
+
+        assertTrue(codecBytes < 64, "Codec allocated " + codecBytes + " bytes per request");
+    }
+
+    private void handle(byte[] body, MoveRequest request) {
+        GameJsonCodec.readMoveRequest(reader.reset(body, 0, body.length), request);
+        GameJsonCodec.writeGame(out.reset(), request.getRow(), game);
+    }
+}
@@ -6,7 +6,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Unit tests for GameController class
@@ -62,4 +65,75 @@ class GameControllerTest {
         // Initially no winner
         assertNull(winner);
     }
+
+    @Test
+    void testReplayRebuildsFinishedGame() throws InvalidMoveException {
+        List<Player> players = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+        );
+        // X: (0,0) (1,1) (2,2) wins on the diagonal
+        GameRecord record = new GameRecord(3, 3, players, new int[]{0, 1, 4, 2, 8});
+
+        Game game = gameController.replay(record, true);
+
+        assertEquals(GameState.ENDED, game.getGameState());
+        assertEquals(players.get(0), game.getWinner());
+        assertEquals(5, game.getMoves().size());
+        assertEquals(1, game.getNextPlayerMoveIndex());
+        assertEquals(players.get(1), game.getBoard().getBoard().get(0).get(2).getPlayer());
+    }
+
+    @Test
+    void testReplayVerifiesLegality() {
+        List<Player> players = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+        );
+
+        assertThrows(InvalidMoveException.class,
+                () -> gameController.replay(new GameRecord(3, 3, players, new int[]{4, 4}), true));
+        assertThrows(InvalidMoveException.class,
+                () -> gameController.replay(new GameRecord(3, 3, players, new int[]{0, 3, 1, 4, 2, 5}), true));
+        assertThrows(InvalidMoveException.class,
+                () -> gameController.replay(new GameRecord(3, 3, players, new int[]{9}), true));
+    }
+
+    @Test
+    void testReplayAllMatchesMoveByMovePlay() throws InvalidMoveException {
+        List<Player> players = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+        );
+        Random random = new Random(42);
+        List<GameRecord> records = new ArrayList<>();
+        List<Game> expected = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Game game = gameController.startGame(4, players);
+            List<Integer> cells = new ArrayList<>();
+            for (int cell = 0; cell < 16; cell++) {
+                cells.add(cell);
+            }
+            int[] moves = new int[16];
+            int count = 0;
+            while (game.getGameState() == GameState.InProgress) {
+                int cell = cells.remove(random.nextInt(cells.size()));
+                gameController.makeMove(game, cell / 4, cell % 4);
+                moves[count++] = cell;
+            }
+            records.add(new GameRecord(4, 4, players, Arrays.copyOf(moves, count)));
+            expected.add(game);
+        }
+        records.add(new GameRecord(4, 4, players, new int[]{0, 0}));
+
+        List<Game> replayed = gameController.replayAll(records, true);
+
+        assertEquals(records.size(), replayed.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getGameState(), replayed.get(i).getGameState());
+            assertEquals(expected.get(i).getWinner(), replayed.get(i).getWinner());
+            assertEquals(expected.get(i).getMoves().size(), replayed.get(i).getMoves().size());
+        }
+        assertNull(replayed.get(records.size() - 1));
+    }
 }
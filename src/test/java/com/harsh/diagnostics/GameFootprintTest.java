@@ -0,0 +1,90 @@
+package com.harsh.diagnostics;
+
+import com.harsh.Models.Game;
+import com.harsh.Models.Player;
+import com.harsh.Models.PlayerType;
+import com.harsh.Models.Symbol;
+import com.harsh.exceptions.InvalidMoveException;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for GameFootprint class
+ */
+class GameFootprintTest {
+    private static final List<Player> PLAYERS = List.of(
+            new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+            new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+    );
+
+    @Test
+    void testEstimateGrowsWithBoardAndMoves() {
+        assertTrue(GameFootprint.estimate(4, 4, 0) > GameFootprint.estimate(3, 3, 0));
+        assertTrue(GameFootprint.estimate(3, 3, 5) > GameFootprint.estimate(3, 3, 1));
+        // K in a row keeps no per-line counts
+        assertTrue(GameFootprint.estimate(5, 5, 25) > GameFootprint.estimate(5, 4, 25));
+        assertEquals(GameFootprint.estimate(3, 3, 9, PLAYERS, false), GameFootprint.reserve(3, 3, PLAYERS, false));
+    }
+
+    @Test
+    void testMeasureStaysWithinEstimate() throws InvalidMoveException {
+        int[][] boards = {{3, 3}, {5, 4}, {8, 8}};
+        for (int[] board : boards) {
+            int size = board[0];
+            Game game = new Game(size, PLAYERS, board[1]);
+            int[] cells = new int[size * size];
+            for (int i = 0; i < cells.length; i++) {
+                // column by column, so nobody completes a line early on the full-line boards
+                cells[i] = (i % size) * size + i / size;
+            }
+            for (int moves = 0; moves < cells.length && game.getMoves().size() == moves; moves++) {
+                long measured = GameFootprint.measure(game);
+                assertTrue(measured <= GameFootprint.estimate(size, board[1], moves, PLAYERS, false),
+                        size + "x" + size + " after " + moves + " moves");
+                try {
+                    game.replayMoves(new int[]{cells[moves]}, 1, true);
+                } catch (InvalidMoveException e) {
+                    break;
+                }
+            }
+            assertTrue(GameFootprint.measure(game) > GameFootprint.estimate(size, board[1], 0, PLAYERS, false));
+        }
+    }
+
+    @Test
+    void testMeasureMatchesAllocatedBytes() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        int games = 2_000;
+        List<Game> kept = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            kept.add(new Game(8, PLAYERS, 5));
+        }
+        kept.clear();
+
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < games; i++) {
+            kept.add(new Game(8, PLAYERS, 5));
+        }
+        long allocated = (threads.getThreadAllocatedBytes(threadId) - before) / games;
+
+        // players and the list of games are shared, everything else is the games' own
+        long perGame = GameFootprint.measure(kept.get(0)) - playersBytes();
+        assertEquals(perGame, allocated, perGame * 0.1, "allocated " + allocated + " vs measured " + perGame);
+    }
+
+    private static long playersBytes() {
+        long bytes = ObjectLayout.object(2, 0);
+        for (Player player : PLAYERS) {
+            bytes += ObjectLayout.object(3, 0) + ObjectLayout.object(0, 2) + ObjectLayout.string(player.getName());
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,65 @@
+package com.harsh.loadtest;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram class
+ */
+class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void testPercentilesWithinPrecision() {
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(10_000, histogram.getTotalCount());
+        assertEquals(5_000, histogram.getValueAtPercentile(50), 5_000 / 64.0);
+        assertEquals(9_900, histogram.getValueAtPercentile(99), 9_900 / 64.0);
+        assertEquals(10_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testBucketBoundsCoverEveryValue() {
+        long[] values = {0, 127, 128, 129, 255, 256, 1_000_003, Long.MAX_VALUE / 3};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.highestValueInBucket(index) >= value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.highestValueInBucket(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    void testCoordinatedOmissionCorrection() {
+        // 99 fast responses and one 1 s stall while requests were due every 10 ms
+        for (int i = 0; i < 99; i++) {
+            histogram.recordWithExpectedInterval(1_000, 10_000);
+        }
+        histogram.recordWithExpectedInterval(1_000_000, 10_000);
+
+        // The stall hid 99 requests that would have waited 990 ms, 980 ms, ... 10 ms
+        assertEquals(199, histogram.getTotalCount());
+        assertTrue(histogram.getValueAtPercentile(75) > 400_000);
+    }
+
+    @Test
+    void testMerge() {
+        LatencyHistogram other = new LatencyHistogram();
+        histogram.record(10);
+        other.record(20_000);
+
+        histogram.add(other);
+        assertEquals(2, histogram.getTotalCount());
+        assertEquals(20_000, histogram.getMaxValue());
+    }
+}
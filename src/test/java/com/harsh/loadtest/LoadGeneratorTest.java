@@ -0,0 +1,68 @@
+package com.harsh.loadtest;
+
+import com.harsh.controller.GameController;
+import com.harsh.server.GameRegistry;
+import com.harsh.server.GameServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Unit tests for LoadGenerator against a server on localhost
+ */
+class LoadGeneratorTest {
+    private GameServer server;
+    private LoadTestConfig config;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                GameRegistry.create(new GameController()), 4);
+        server.start();
+        config = new LoadTestConfig();
+        config.setTarget(URI.create("http://127.0.0.1:" + server.getPort()));
+        config.setClients(4);
+        config.setDuration(Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void testClosedLoopPlaysGamesWithoutErrors() throws InterruptedException {
+        LoadTestReport report = new LoadGenerator(config).run();
+
+        assertEquals(0, report.getErrors());
+        assertTrue(report.getGamesCompleted() > 0);
+        assertTrue(report.getMoves() >= 5 * report.getGamesCompleted());
+        assertEquals(report.getRequests(), report.getHistogram().getTotalCount());
+        // Games still in play when the run ended are deleted too
+        assertEquals(0, server.getRegistry().getGameCount());
+    }
+
+    @Test
+    void testOpenLoopHoldsTargetRate() throws InterruptedException {
+        config.setMode(LoadMode.OPEN);
+        config.setRate(100);
+
+        LoadTestReport report = new LoadGenerator(config).run();
+
+        assertEquals(0, report.getErrors());
+        assertEquals(100, report.getRequestsPerSecond(), 30);
+    }
+
+    @Test
+    void testOpenLoopRequiresRate() {
+        config.setMode(LoadMode.OPEN);
+        assertThrows(IllegalArgumentException.class, () -> new LoadGenerator(config));
+    }
+}
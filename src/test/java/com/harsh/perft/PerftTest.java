@@ -0,0 +1,74 @@
+package com.harsh.perft;
+
+import com.harsh.Models.*;
+import com.harsh.exceptions.InvalidMoveException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for Perft against the published 3x3 game-tree counts
+ */
+class PerftTest {
+    private List<Player> players;
+    private Perft perft;
+
+    @BeforeEach
+    void setUp() {
+        players = List.of(
+                new Player("X", new Symbol('X'), PlayerType.HUMAN),
+                new Player("O", new Symbol('O'), PlayerType.HUMAN)
+        );
+        perft = new Perft(3, players);
+    }
+
+    @Test
+    void testShallowDepths() throws InvalidMoveException {
+        assertEquals(9, perft.run(1).getNodes());
+        assertEquals(9 + 72, perft.run(2).getNodes());
+        assertEquals(9 + 72 + 504 + 3024, perft.run(4).getNodes());
+        assertEquals(0, perft.run(4).getGames());
+    }
+
+    @Test
+    void testFullTreeMatchesPublishedCounts() throws InvalidMoveException {
+        PerftResult result = perft.run(9);
+
+        assertEquals(549_945, result.getNodes());
+        assertEquals(255_168, result.getGames());
+        assertEquals(131_184, result.getWins(0));
+        assertEquals(77_904, result.getWins(1));
+        assertEquals(46_080, result.getDraws());
+    }
+
+    @Test
+    void testFromPosition() throws InvalidMoveException {
+        // X takes the centre: 25,872 games follow, as every first move's subtree sums to 255,168
+        PerftResult centre = perft.run(new int[]{4}, 8);
+        PerftResult corner = perft.run(new int[]{0}, 8);
+        PerftResult edge = perft.run(new int[]{1}, 8);
+
+        assertEquals(255_168, 4 * corner.getGames() + 4 * edge.getGames() + centre.getGames());
+        assertEquals(25_872, centre.getGames());
+    }
+
+    @Test
+    void testFinishedStartPositionHasNoChildren() throws InvalidMoveException {
+        // X wins the top row
+        PerftResult result = perft.run(new int[]{0, 3, 1, 4, 2}, 4);
+        assertEquals(0, result.getNodes());
+    }
+
+    @Test
+    void testThreeInARowOnFourByFour() throws InvalidMoveException {
+        // X can first win on ply 5, O on ply 6; counts from an independent brute force
+        PerftResult result = new Perft(4, 3, players).run(6);
+
+        assertEquals(6_090_112, result.getNodes());
+        assertEquals(22_464, result.getWins(0));
+        assertEquals(236_880, result.getWins(1));
+        assertEquals(0, result.getDraws());
+    }
+}
@@ -0,0 +1,89 @@
+package com.harsh.server;
+
+import com.harsh.Models.*;
+import com.harsh.controller.GameController;
+import com.harsh.exceptions.InvalidMoveException;
+import com.harsh.strategy.BotPlayingStrategy;
+import com.harsh.strategy.EasyBotPlayingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for GameRegistry class
+ */
+class GameRegistryTest {
+    private GameRegistry registry;
+    private Game game;
+    private CountDownLatch thinking;
+    private CountDownLatch release;
+
+    @BeforeEach
+    void setUp() {
+        registry = GameRegistry.create(new GameController());
+        game = registry.getGame(registry.createGame(3, 3, null, BotDifficultyLevel.EASY));
+        thinking = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        BotPlayingStrategy easy = new EasyBotPlayingStrategy();
+        ((Bot) game.getPlayers().get(1)).setBotPlayingStrategy((board, player) -> {
+            thinking.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return easy.makeMove(board, player);
+        });
+    }
+
+    private CompletableFuture<Integer> startBotTurn(BotTurn turn) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return registry.playBotTurn(game, turn);
+            } catch (InvalidMoveException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    @Test
+    void testBotThinksWithoutHoldingTheGameLock() throws Exception {
+        BotTurn turn = registry.playMove(game, 1, 1);
+        assertNotNull(turn);
+        CompletableFuture<Integer> reply = startBotTurn(turn);
+        assertTrue(thinking.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Integer> reader = CompletableFuture.supplyAsync(() -> {
+            synchronized (game) {
+                return game.getMoves().size();
+            }
+        });
+        assertEquals(1, reader.get(5, TimeUnit.SECONDS));
+        assertThrows(InvalidMoveException.class, () -> registry.playMove(game, 0, 0));
+
+        release.countDown();
+        int cell = reply.get(5, TimeUnit.SECONDS);
+        assertEquals(2, game.getMoves().size());
+        assertEquals(CellState.FILLED, game.getBoard().getBoard().get(cell / 3).get(cell % 3).getCellState());
+        assertEquals(0, game.getNextPlayerMoveIndex());
+    }
+
+    @Test
+    void testBotMoveIsDroppedWhenTheGameMovedOn() throws Exception {
+        BotTurn turn = registry.playMove(game, 1, 1);
+        CompletableFuture<Integer> reply = startBotTurn(turn);
+        assertTrue(thinking.await(5, TimeUnit.SECONDS));
+
+        synchronized (game) {
+            game.forfeit(game.getPlayers().get(1));
+        }
+        release.countDown();
+
+        assertEquals(-1, reply.get(5, TimeUnit.SECONDS));
+        assertEquals(1, game.getMoves().size());
+    }
+}
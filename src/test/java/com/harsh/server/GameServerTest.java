@@ -0,0 +1,209 @@
+package com.harsh.server;
+
+import com.harsh.Models.GameRecord;
+import com.harsh.codec.GameBinaryCodec;
+import com.harsh.controller.GameController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for GameServer class
+ */
+class GameServerTest {
+    private GameServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                GameRegistry.create(new GameController()), 2);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testPlayGameToWin() throws IOException, InterruptedException {
+        HttpResponse<String> created = send("POST", "/games?size=3");
+        assertEquals(201, created.statusCode());
+        assertTrue(created.body().contains("\"id\":1"));
+
+        // X takes the top row, O the middle row
+        int[][] moves = {{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0, 2}};
+        HttpResponse<String> response = null;
+        for (int[] move : moves) {
+            response = send("POST", "/games/1/moves?row=" + move[0] + "&col=" + move[1]);
+            assertEquals(200, response.statusCode());
+        }
+        assertTrue(response.body().contains("\"state\":\"ENDED\""));
+        assertTrue(response.body().contains("\"winner\":\"Player1\""));
+
+        assertEquals(409, send("POST", "/games/1/moves?row=2&col=2").statusCode());
+    }
+
+    @Test
+    void testRejectsOccupiedCellAndUnknownGame() throws IOException, InterruptedException {
+        send("POST", "/games?size=3");
+        assertEquals(200, send("POST", "/games/1/moves?row=1&col=1").statusCode());
+        assertEquals(409, send("POST", "/games/1/moves?row=1&col=1").statusCode());
+        assertEquals(409, send("POST", "/games/1/moves?row=5&col=1").statusCode());
+        assertEquals(400, send("POST", "/games/1/moves?row=x").statusCode());
+        assertEquals(404, send("GET", "/games/42").statusCode());
+    }
+
+    @Test
+    void testDeleteGame() throws IOException, InterruptedException {
+        send("POST", "/games?size=4");
+        assertEquals(1, server.getRegistry().getGameCount());
+        assertEquals(204, send("DELETE", "/games/1").statusCode());
+        assertEquals(0, server.getRegistry().getGameCount());
+        assertEquals(404, send("DELETE", "/games/1").statusCode());
+    }
+
+    @Test
+    void testBotSeatAnswersEachMove() throws IOException, InterruptedException {
+        assertEquals(400, send("POST", "/games?size=3&bot=GODLIKE").statusCode());
+        assertEquals(201, send("POST", "/games?size=3&bot=HARD").statusCode());
+
+        HttpResponse<String> response = send("POST", "/games/1/moves?row=1&col=1");
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"moves\":2"));
+        assertTrue(response.body().contains("\"next\":0"));
+        assertEquals(204, send("DELETE", "/games/1").statusCode());
+    }
+
+    @Test
+    void testMoveAsJsonBodyAndBinaryState() throws IOException, InterruptedException {
+        send("POST", "/games?size=3");
+        HttpRequest move = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/games/1/moves"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"row\": 2, \"col\": 1}"))
+                .build();
+        HttpResponse<String> response = client.send(move, HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"history\":[7]"));
+
+        HttpRequest bad = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/games/1/moves"))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"row\": 2}"))
+                .build();
+        assertEquals(400, client.send(bad, HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        HttpRequest binary = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/games/1?format=binary"))
+                .GET()
+                .build();
+        byte[] body = client.send(binary, HttpResponse.BodyHandlers.ofByteArray()).body();
+        assertEquals(1, GameBinaryCodec.readGameId(body, 0));
+        GameRecord record = GameBinaryCodec.readGame(body, 0, body.length);
+        assertArrayEquals(new int[]{7}, record.getMoves());
+    }
+
+    @Test
+    void testMemoryBudgetRefusesGames() throws IOException, InterruptedException {
+        GameRegistry registry = server.getRegistry();
+        assertEquals(201, send("POST", "/games?size=3").statusCode());
+        long perGame = registry.getReservedBytes();
+        assertTrue(perGame > 0);
+        registry.setMemoryBudgetBytes(perGame * 2 + perGame / 2);
+
+        assertEquals(201, send("POST", "/games?size=3").statusCode());
+        assertEquals(503, send("POST", "/games?size=3").statusCode());
+        assertEquals(2, registry.getGameCount());
+
+        assertEquals(204, send("DELETE", "/games/1").statusCode());
+        assertEquals(perGame, registry.getReservedBytes());
+        assertEquals(201, send("POST", "/games?size=3").statusCode());
+    }
+
+    @Test
+    void testMemoryDiagnostics() throws IOException, InterruptedException {
+        send("POST", "/games?size=3");
+        send("POST", "/games/1/moves?row=1&col=1");
+        HttpResponse<String> response = send("GET", "/diagnostics/memory");
+        assertEquals(200, response.statusCode());
+
+        GameRegistry registry = server.getRegistry();
+        long liveBytes = registry.getLiveGameBytes();
+        assertTrue(liveBytes > 0 && liveBytes <= registry.getReservedBytes());
+        assertEquals("{\"liveGames\":1,\"liveBytes\":" + liveBytes + ",\"reservedBytes\":"
+                + registry.getReservedBytes() + ",\"budgetBytes\":0}", response.body());
+    }
+
+    @Test
+    void testTimedGamesNeedTimekeeper() throws IOException, InterruptedException {
+        assertEquals(400, send("POST", "/games?size=3&moveMs=1000").statusCode());
+        assertEquals(201, send("POST", "/games?size=3&moveMs=0").statusCode());
+    }
+
+    @Test
+    void testSpectatorStream() throws IOException, InterruptedException {
+        send("POST", "/games?size=3");
+        HttpRequest request = HttpRequest.newBuilder(
+                URI.create("http://127.0.0.1:" + server.getPort() + "/games/1/spectate")).build();
+        HttpResponse<InputStream> stream = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals(200, stream.statusCode());
+
+        int[][] moves = {{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0, 2}};
+        for (int[] move : moves) {
+            send("POST", "/games/1/moves?row=" + move[0] + "&col=" + move[1]);
+        }
+
+        // keyframe on join, one frame per move, final keyframe, then end of stream
+        int frames = 0;
+        byte lastType = 0;
+        try (DataInputStream in = new DataInputStream(stream.body())) {
+            byte[] lengthBytes = new byte[4];
+            while (in.read(lengthBytes, 0, 1) == 1) {
+                in.readFully(lengthBytes, 1, 3);
+                int length = ((lengthBytes[0] & 0xff) << 24) | ((lengthBytes[1] & 0xff) << 16)
+                        | ((lengthBytes[2] & 0xff) << 8) | (lengthBytes[3] & 0xff);
+                byte[] frame = new byte[length];
+                in.readFully(frame);
+                lastType = frame[0];
+                frames++;
+            }
+        }
+        assertEquals(1 + 5 + 1, frames);
+        assertEquals(2, lastType);
+    }
+
+    @Test
+    void testSpectatingWhileDeletingLeavesNoHub() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            long id = server.getRegistry().createGame(3, 3);
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://127.0.0.1:" + server.getPort() + "/games/" + id + "/spectate")).build();
+            CompletableFuture<HttpResponse<byte[]>> watch = client.sendAsync(request,
+                    HttpResponse.BodyHandlers.ofByteArray());
+            send("DELETE", "/games/" + id);
+
+            // Either refused, or streamed until the delete ended it; a leaked hub never ends it
+            int status = watch.get(5, TimeUnit.SECONDS).statusCode();
+            assertTrue(status == 200 || status == 404, "status " + status);
+        }
+        assertEquals(0, server.getSpectators().getHubCount());
+    }
+}
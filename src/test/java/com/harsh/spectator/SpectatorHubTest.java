@@ -0,0 +1,250 @@
+package com.harsh.spectator;
+
+import com.harsh.Models.*;
+import com.harsh.controller.GameController;
+import com.harsh.exceptions.InvalidMoveException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for SpectatorHub and SpectatorConnection classes
+ */
+class SpectatorHubTest {
+    private GameController gameController;
+    private Game game;
+    private ExecutorService writer;
+    private SpectatorService service;
+
+    @BeforeEach
+    void setUp() {
+        gameController = new GameController();
+        List<Player> players = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+        );
+        game = gameController.startGame(5, players);
+        game.setId(7);
+        writer = Executors.newFixedThreadPool(2);
+        service = new SpectatorService(writer, 4, 64, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private void play(int row, int col) throws InvalidMoveException {
+        gameController.makeMove(game, row, col);
+        service.publishMove(game, game.getMoves().get(game.getMoves().size() - 1));
+    }
+
+    /**
+     * Splits a stream into frames of type, sequence and body.
+     */
+    private static List<ByteBuffer> frames(byte[] stream) {
+        List<ByteBuffer> frames = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(stream);
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt();
+            ByteBuffer frame = buffer.slice();
+            frame.limit(length);
+            frames.add(frame);
+            buffer.position(buffer.position() + length);
+        }
+        return frames;
+    }
+
+    private static void awaitClosed(SpectatorConnection connection) throws InterruptedException {
+        for (int i = 0; i < 200 && !connection.isClosed(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(connection.isClosed());
+    }
+
+    @Test
+    void testWatchersReceiveIdenticalStream() throws Exception {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        SpectatorConnection firstConnection = service.getHub(game).join(first);
+        service.getHub(game).join(second);
+
+        // Row 0 for X, row 1 for O; X wins on the fifth stone (move 9)
+        for (int col = 0; col < 5; col++) {
+            play(0, col);
+            if (col < 4) {
+                play(1, col);
+            }
+        }
+        awaitClosed(firstConnection);
+
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+        List<ByteBuffer> frames = frames(first.toByteArray());
+        // initial keyframe, 9 moves, keyframes after moves 4 and 8 and at the end
+        assertEquals(1 + 9 + 3, frames.size());
+        assertEquals(SpectatorFrame.KEYFRAME, frames.get(0).get(0));
+        assertEquals(SpectatorFrame.MOVE, frames.get(1).get(0));
+
+        ByteBuffer last = frames.get(frames.size() - 1);
+        assertEquals(SpectatorFrame.KEYFRAME, last.get());
+        assertEquals(9, last.getInt());
+        assertEquals(GameState.ENDED.ordinal(), last.get());
+        last.get();
+        assertEquals(0, last.get());
+        assertEquals(5, last.getShort());
+        assertEquals(5, last.getShort());
+        assertEquals(1, last.get());
+
+        // one encode per move plus the keyframes, independent of the number of watchers
+        assertEquals(1 + 9 + 3, service.getHub(game).getFramesEncoded());
+    }
+
+    @Test
+    void testLateJoinerGetsKeyframeAndRecentMoves() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            play(i / 5 + 2 * (i % 2), i % 5);
+        }
+        service.getHub(game);
+        play(4, 4);
+        play(4, 3);
+
+        ByteArrayOutputStream late = new ByteArrayOutputStream();
+        SpectatorConnection connection = service.getHub(game).join(late);
+        service.removeGame(game.getId());
+        awaitClosed(connection);
+
+        List<ByteBuffer> frames = frames(late.toByteArray());
+        // keyframe at move 8 replaced the one from when the hub was created
+        assertEquals(1, frames.size());
+        assertEquals(SpectatorFrame.KEYFRAME, frames.get(0).get(0));
+        assertEquals(8, frames.get(0).getInt(1));
+    }
+
+    @Test
+    void testSlowWatcherSkipsToKeyframeThenIsDropped() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Thread[] closedBy = new Thread[1];
+        OutputStream stalled = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                awaitRelease();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                awaitRelease();
+            }
+
+            @Override
+            public void close() throws IOException {
+                closedBy[0] = Thread.currentThread();
+                awaitRelease();
+            }
+
+            private void awaitRelease() throws IOException {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        ByteArrayOutputStream healthy = new ByteArrayOutputStream();
+        service.shutdown();
+        service = new SpectatorService(Executors.newFixedThreadPool(2), 4, 4, 2);
+        game = gameController.startGame(15, game.getPlayers(), 5);
+        game.setId(8);
+        SpectatorConnection slow = service.getHub(game).join(stalled);
+        SpectatorConnection fast = service.getHub(game).join(healthy);
+
+        // Row-major filling of a 15x15 board cannot make five in a row within 40 moves
+        long started = System.nanoTime();
+        for (int cell = 0; cell < 40 && !slow.isClosed(); cell++) {
+            play(cell / 15, cell % 15);
+            // gives the healthy watcher time to keep up
+            Thread.sleep(2);
+        }
+        // Dropping the watcher must not have waited on its blocking close
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2));
+        release.countDown();
+
+        assertTrue(slow.isClosed());
+        assertNotEquals(Thread.currentThread(), closedBy[0]);
+        assertTrue(slow.getFramesSkipped() > 0);
+        assertFalse(fast.isClosed());
+        assertEquals(1, service.getHub(game).getSpectatorCount());
+    }
+
+    @Test
+    void testBlockedWatcherHoldsNeitherPublisherNorWriter() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        Thread[] closedBy = new Thread[1];
+        OutputStream blocked = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                block();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                block();
+            }
+
+            @Override
+            public void close() throws IOException {
+                closedBy[0] = Thread.currentThread();
+                block();
+            }
+
+            // Like a socket whose peer stopped reading: only an interrupt gets the thread out
+            private void block() throws IOException {
+                try {
+                    never.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new InterruptedIOException("aborted");
+                }
+            }
+        };
+        ByteArrayOutputStream healthy = new ByteArrayOutputStream();
+        service.shutdown();
+        // One writer thread, so the healthy watcher is only served if the blocked one is aborted
+        service = new SpectatorService(Executors.newFixedThreadPool(1), 4, 64, 1, 200);
+        SpectatorConnection stuck = service.getHub(game).join(blocked);
+        SpectatorConnection fast = service.getHub(game).join(healthy);
+
+        long started = System.nanoTime();
+        for (int col = 0; col < 5; col++) {
+            synchronized (game) {
+                play(0, col);
+                if (col < 4) {
+                    play(1, col);
+                }
+            }
+        }
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2), "publishing waited on a watcher");
+
+        awaitClosed(fast);
+        assertEquals(1 + 9 + 3, frames(healthy.toByteArray()).size());
+        assertTrue(stuck.isClosed());
+        assertTrue(stuck.isAborted());
+        for (int i = 0; i < 200 && service.getOpenStreamCount() > 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, service.getOpenStreamCount());
+        assertNotNull(closedBy[0]);
+        assertNotEquals(Thread.currentThread(), closedBy[0]);
+    }
+}
@@ -0,0 +1,139 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for LazySmpSearchStrategy class
+ */
+class LazySmpSearchStrategyTest {
+    private Player bot;
+    private Player opponent;
+
+    @BeforeEach
+    void setUp() {
+        bot = new Player("Bot", new Symbol('X'), PlayerType.BOT);
+        opponent = new Player("Human", new Symbol('O'), PlayerType.HUMAN);
+    }
+
+    private void place(Board board, int row, int col, Player player) {
+        Cell cell = board.getBoard().get(row).get(col);
+        cell.setPlayer(player);
+        cell.setCellState(CellState.FILLED);
+    }
+
+    @Test
+    void testParallelSearchBlocks() {
+        Board board = new Board(5, 4);
+        for (int col = 0; col < 3; col++) {
+            place(board, 2, col, opponent);
+        }
+        place(board, 0, 0, bot);
+        place(board, 4, 4, bot);
+
+        Move move = new LazySmpSearchStrategy(100, 4).makeMove(board, bot);
+        assertEquals(2, move.getCell().getRow());
+        assertEquals(3, move.getCell().getCol());
+    }
+
+    @Test
+    void testParallelSearchWins() {
+        Board board = new Board(5, 4);
+        for (int row = 0; row < 3; row++) {
+            place(board, row, 4, bot);
+        }
+        place(board, 0, 0, opponent);
+        place(board, 1, 0, opponent);
+        place(board, 4, 1, opponent);
+
+        Move move = new LazySmpSearchStrategy(100, 4).makeMove(board, bot);
+        assertEquals(3, move.getCell().getRow());
+        assertEquals(4, move.getCell().getCol());
+    }
+
+    @Test
+    void testHelpersShareTheTable() {
+        LazySmpSearchStrategy strategy = new LazySmpSearchStrategy(50, 4);
+        PatternTable position = new PatternTable(5, 4);
+        position.place(12, PatternTable.SECOND);
+        position.place(6, PatternTable.FIRST);
+        position.place(18, PatternTable.SECOND);
+
+        int cell = strategy.search(position, 4);
+        assertTrue(cell >= 0 && position.getStone(cell) == PatternTable.EMPTY);
+        assertTrue(strategy.getNodes() > 0);
+        assertTrue(strategy.getCompletedDepth() >= 1);
+
+        TranspositionTable.Entry entry = new TranspositionTable.Entry();
+        int stored = 0;
+        for (int reply : position.candidateCells()) {
+            position.place(reply, PatternTable.FIRST);
+            if (strategy.getTranspositionTable().probe(TranspositionTable.keyOf(position, PatternTable.SECOND), entry)) {
+                stored++;
+            }
+            position.remove(reply);
+        }
+        assertTrue(stored > 0);
+    }
+
+    @Test
+    void testSmallBoardsStayOnOneThreadAndNeverLose() throws Exception {
+        // 3x3 is searched to the end by one thread; two HARD bots always draw
+        for (int game = 0; game < 3; game++) {
+            Player first = new Player("X", new Symbol('X'), PlayerType.BOT);
+            Player second = new Player("O", new Symbol('O'), PlayerType.BOT);
+            LazySmpSearchStrategy firstStrategy = new LazySmpSearchStrategy(50, 8);
+            LazySmpSearchStrategy secondStrategy = new LazySmpSearchStrategy(50, 8);
+            Game match = new Game(3, List.of(first, second));
+            while (match.getGameState().equals(GameState.InProgress)) {
+                boolean firstToMove = match.getNextPlayerMoveIndex() == 0;
+                Move move = firstToMove ? firstStrategy.makeMove(match.getBoard(), first)
+                        : secondStrategy.makeMove(match.getBoard(), second);
+                match.applyMove(move);
+            }
+            assertEquals(GameState.DRAW, match.getGameState());
+        }
+    }
+
+    @Test
+    void testScalingReportsEveryThreadCount() {
+        List<SearchScalingResult> results = new SearchScaling(4, 4, 20, 2).run(1, 2);
+        assertEquals(2, results.size());
+        assertEquals(2, results.get(1).getThreads());
+        for (SearchScalingResult result : results) {
+            assertEquals(2, result.getSearches());
+            assertTrue(result.getNodes() > 0);
+        }
+    }
+
+    @Test
+    void testConcurrentSearchesShareBoundedHelpers() throws InterruptedException {
+        int searches = 4;
+        int[] cells = new int[searches];
+        Thread[] games = new Thread[searches];
+        for (int i = 0; i < searches; i++) {
+            int index = i;
+            games[i] = new Thread(() -> {
+                PatternTable position = new PatternTable(15, 5);
+                position.place(112, PatternTable.SECOND);
+                cells[index] = new LazySmpSearchStrategy(50, 8).search(position, 8);
+            });
+            games[i].start();
+        }
+        for (Thread game : games) {
+            game.join();
+        }
+
+        long helperThreads = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("bot-search"))
+                .count();
+        assertTrue(helperThreads <= LazySmpSearchStrategy.HELPER_THREADS, helperThreads + " helper threads");
+        for (int cell : cells) {
+            assertTrue(cell >= 0 && cell != 112);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.harsh.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for PatternTable class
+ */
+class PatternTableTest {
+    private static final int SIZE = 15;
+    private PatternTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new PatternTable(SIZE, 5);
+    }
+
+    private int cell(int row, int col) {
+        return row * SIZE + col;
+    }
+
+    @Test
+    void testFourIsCountedAndCompletionCellsFound() {
+        for (int col = 5; col < 9; col++) {
+            table.place(cell(7, col), PatternTable.FIRST);
+        }
+
+        assertTrue(table.hasCompletion(PatternTable.FIRST));
+        assertFalse(table.hasCompletion(PatternTable.SECOND));
+        assertEquals(2, table.getPatternCount(PatternTable.FIRST, 4));
+        List<Integer> completions = table.completionCells(PatternTable.FIRST);
+        assertEquals(2, completions.size());
+        assertTrue(completions.contains(cell(7, 4)));
+        assertTrue(completions.contains(cell(7, 9)));
+    }
+
+    @Test
+    void testOpponentStoneKillsWindows() {
+        for (int col = 5; col < 9; col++) {
+            table.place(cell(7, col), PatternTable.FIRST);
+        }
+        table.place(cell(7, 9), PatternTable.SECOND);
+
+        assertEquals(List.of(cell(7, 4)), table.completionCells(PatternTable.FIRST));
+    }
+
+    @Test
+    void testRemoveRestoresCounts() {
+        table.place(cell(7, 7), PatternTable.FIRST);
+        table.place(cell(7, 8), PatternTable.SECOND);
+        long before = table.evaluate(PatternTable.FIRST);
+        int threesBefore = table.getPatternCount(PatternTable.FIRST, 2);
+
+        table.place(cell(8, 8), PatternTable.FIRST);
+        table.remove(cell(8, 8));
+
+        assertEquals(before, table.evaluate(PatternTable.FIRST));
+        assertEquals(threesBefore, table.getPatternCount(PatternTable.FIRST, 2));
+        assertEquals(2, table.getStoneCount());
+    }
+
+    @Test
+    void testWinDetected() {
+        for (int i = 0; i < 5; i++) {
+            table.place(cell(i, i), PatternTable.SECOND);
+        }
+        assertTrue(table.hasWon(PatternTable.SECOND));
+        assertFalse(table.hasWon(PatternTable.FIRST));
+    }
+
+    @Test
+    void testCandidatesStayNearStones() {
+        assertEquals(List.of(cell(7, 7)), table.candidateCells());
+
+        table.place(cell(0, 0), PatternTable.FIRST);
+        List<Integer> candidates = table.candidateCells();
+        assertEquals(8, candidates.size());
+        assertFalse(candidates.contains(cell(0, 0)));
+        assertTrue(candidates.contains(cell(2, 2)));
+        assertFalse(candidates.contains(cell(3, 3)));
+    }
+
+    @Test
+    void testHashDependsOnStonesNotOrder() {
+        assertEquals(0, table.getHash());
+        table.place(cell(3, 3), PatternTable.FIRST);
+        table.place(cell(4, 4), PatternTable.SECOND);
+
+        PatternTable other = new PatternTable(SIZE, 5);
+        other.place(cell(4, 4), PatternTable.SECOND);
+        other.place(cell(3, 3), PatternTable.FIRST);
+        assertEquals(table.getHash(), other.getHash());
+        assertEquals(table.getHash(), table.copy().getHash());
+
+        other.remove(cell(4, 4));
+        other.place(cell(4, 4), PatternTable.FIRST);
+        assertNotEquals(table.getHash(), other.getHash());
+    }
+}
@@ -0,0 +1,166 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for PonderingStrategy class
+ */
+class PonderingStrategyTest {
+    private Player bot;
+    private Player opponent;
+    private PonderingStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        bot = new Player("Bot", new Symbol('X'), PlayerType.BOT);
+        opponent = new Player("Human", new Symbol('O'), PlayerType.HUMAN);
+        strategy = new PonderingStrategy(100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        strategy.stopPondering();
+    }
+
+    private void place(Board board, int row, int col, Player player) {
+        Cell cell = board.getBoard().get(row).get(col);
+        cell.setPlayer(player);
+        cell.setCellState(CellState.FILLED);
+    }
+
+    private void play(Board board, Move move) {
+        place(board, move.getCell().getRow(), move.getCell().getCol(), move.getPlayer());
+    }
+
+    private Board openingBoard() {
+        Board board = new Board(15, 5);
+        place(board, 7, 7, opponent);
+        return board;
+    }
+
+    @Test
+    void testPredictedReplyIsAnsweredFromCache() throws InterruptedException {
+        Board board = openingBoard();
+        play(board, strategy.makeMove(board, bot));
+        assertTrue(strategy.awaitPondering(5_000));
+
+        Map<Integer, Integer> answers = strategy.getPonderedAnswers();
+        assertFalse(answers.isEmpty());
+        int reply = answers.keySet().iterator().next();
+        int answer = answers.get(reply);
+        place(board, reply / 15, reply % 15, opponent);
+
+        long start = System.nanoTime();
+        Move move = strategy.makeMove(board, bot);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(1, strategy.getPonderHits());
+        assertEquals(answer, move.getCell().getRow() * 15 + move.getCell().getCol());
+        assertTrue(elapsedMillis < 50, "Ponder hit took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testUnpredictedReplyFallsBackToSearch() {
+        Board board = openingBoard();
+        play(board, strategy.makeMove(board, bot));
+
+        // A corner far from every stone is never among the pondered replies
+        place(board, 0, 0, opponent);
+        Move move = strategy.makeMove(board, bot);
+
+        assertEquals(0, strategy.getPonderHits());
+        assertNotNull(move);
+        assertEquals(CellState.EMPTY, board.getBoard().get(move.getCell().getRow())
+                .get(move.getCell().getCol()).getCellState());
+    }
+
+    @Test
+    void testStopPonderingIsPrompt() {
+        Board board = openingBoard();
+        play(board, strategy.makeMove(board, bot));
+        assertTrue(strategy.isPondering());
+
+        long start = System.nanoTime();
+        strategy.stopPondering();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(strategy.isPondering());
+        assertTrue(elapsedMillis < 100, "Stopping took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testStoppingAQueuedSessionIsPrompt() {
+        // Occupy every ponder thread so the last session waits in the queue
+        PonderingStrategy[] busy = new PonderingStrategy[PonderingStrategy.PONDER_THREADS];
+        try {
+            for (int i = 0; i < busy.length; i++) {
+                busy[i] = new PonderingStrategy(100);
+                Board board = openingBoard();
+                play(board, busy[i].makeMove(board, bot));
+            }
+            Board board = openingBoard();
+            play(board, strategy.makeMove(board, bot));
+            assertTrue(strategy.isPondering());
+
+            long start = System.nanoTime();
+            strategy.stopPondering();
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertFalse(strategy.isPondering());
+            assertTrue(elapsedMillis < 100, "Stopping took " + elapsedMillis + " ms");
+        } finally {
+            for (PonderingStrategy other : busy) {
+                if (other != null) {
+                    other.stopPondering();
+                }
+            }
+        }
+    }
+
+    @Test
+    void testStopFromAnotherThreadDuringMoves() throws InterruptedException {
+        AtomicBoolean playing = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread stopper = new Thread(() -> {
+            try {
+                while (playing.get()) {
+                    strategy.stopPondering();
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        stopper.start();
+        try {
+            Board board = openingBoard();
+            for (int i = 0; i < 4; i++) {
+                play(board, strategy.makeMove(board, bot));
+                place(board, i, 0, opponent);
+            }
+        } finally {
+            playing.set(false);
+            stopper.join();
+        }
+        assertNull(failure.get());
+    }
+
+    @Test
+    void testNoPonderingAfterWinningMove() {
+        Board board = new Board(15, 5);
+        for (int col = 3; col < 7; col++) {
+            place(board, 4, col, bot);
+        }
+        place(board, 10, 10, opponent);
+
+        strategy.makeMove(board, bot);
+        assertFalse(strategy.isPondering());
+    }
+}
@@ -0,0 +1,117 @@
+package com.harsh.strategy;
+
+import com.harsh.Models.*;
+import com.harsh.exceptions.InvalidMoveException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+/**
+ * Unit tests for ThreatSpaceSearchStrategy class
+ */
+class ThreatSpaceSearchStrategyTest {
+    private Player bot;
+    private Player opponent;
+    private ThreatSpaceSearchStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        bot = new Player("Bot", new Symbol('X'), PlayerType.BOT);
+        opponent = new Player("Human", new Symbol('O'), PlayerType.HUMAN);
+        strategy = new ThreatSpaceSearchStrategy(100);
+    }
+
+    private void place(Board board, int row, int col, Player player) {
+        Cell cell = board.getBoard().get(row).get(col);
+        cell.setPlayer(player);
+        cell.setCellState(CellState.FILLED);
+    }
+
+    @Test
+    void testCompletesOwnLine() {
+        Board board = new Board(15, 5);
+        for (int col = 3; col < 7; col++) {
+            place(board, 4, col, bot);
+        }
+        place(board, 4, 2, opponent);
+        place(board, 10, 10, opponent);
+
+        Move move = strategy.makeMove(board, bot);
+        assertEquals(4, move.getCell().getRow());
+        assertEquals(7, move.getCell().getCol());
+    }
+
+    @Test
+    void testBlocksOpponentFour() {
+        Board board = new Board(15, 5);
+        for (int row = 5; row < 9; row++) {
+            place(board, row, 9, opponent);
+        }
+        place(board, 4, 9, bot);
+        place(board, 7, 7, bot);
+
+        Move move = strategy.makeMove(board, bot);
+        assertEquals(9, move.getCell().getRow());
+        assertEquals(9, move.getCell().getCol());
+    }
+
+    @Test
+    void testFindsForcedWinWithDoubleThreat() {
+        // Two broken threes that cross at (7,7): playing there makes two fours at once
+        Board board = new Board(15, 5);
+        place(board, 7, 4, bot);
+        place(board, 7, 5, bot);
+        place(board, 7, 6, bot);
+        place(board, 4, 7, bot);
+        place(board, 5, 7, bot);
+        place(board, 6, 7, bot);
+        place(board, 7, 3, opponent);
+        place(board, 3, 7, opponent);
+        place(board, 0, 0, opponent);
+        place(board, 14, 14, opponent);
+        place(board, 0, 14, opponent);
+
+        Move move = strategy.makeMove(board, bot);
+        assertEquals(7, move.getCell().getRow());
+        assertEquals(7, move.getCell().getCol());
+    }
+
+    @Test
+    void testStaysWithinMoveBudgetOnLargeBoard() throws InvalidMoveException {
+        Bot first = new Bot("Hard1", new Symbol('X'), PlayerType.BOT, BotDifficultyLevel.HARD);
+        Bot second = new Bot("Hard2", new Symbol('O'), PlayerType.BOT, BotDifficultyLevel.HARD);
+        Game game = new Game(15, List.of(first, second), 5);
+
+        long slowest = 0;
+        for (int i = 0; i < 20 && game.getGameState() == GameState.InProgress; i++) {
+            Player current = game.getPlayers().get(game.getNextPlayerMoveIndex());
+            long start = System.nanoTime();
+            Move move = current.makeMove(game.getBoard());
+            slowest = Math.max(slowest, System.nanoTime() - start);
+            game.applyMove(move);
+        }
+
+        // 100 ms budget plus slack for the last node batch and a loaded CI machine
+        assertTrue(slowest < 250_000_000L, "slowest move took " + slowest / 1_000_000 + " ms");
+    }
+
+    @Test
+    void testHardBotNeverLosesOnThreeByThree() throws InvalidMoveException {
+        for (int firstMove = 0; firstMove < 9; firstMove++) {
+            Player human = new Player("Human", new Symbol('O'), PlayerType.HUMAN);
+            Bot hard = new Bot("Hard", new Symbol('X'), PlayerType.BOT, BotDifficultyLevel.HARD);
+            Game game = new Game(3, List.of(human, hard));
+            game.applyMove(new Move(new Cell(firstMove / 3, firstMove % 3), human));
+
+            Bot easy = new Bot("Easy", new Symbol('O'), PlayerType.BOT, BotDifficultyLevel.EASY);
+            while (game.getGameState() == GameState.InProgress) {
+                Player current = game.getPlayers().get(game.getNextPlayerMoveIndex());
+                Player mover = current == human ? easy : hard;
+                game.applyMove(mover.makeMove(game.getBoard()));
+            }
+            assertNotEquals(human, game.getWinner());
+        }
+    }
+}
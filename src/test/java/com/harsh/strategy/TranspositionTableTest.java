@@ -0,0 +1,110 @@
+package com.harsh.strategy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for TranspositionTable class
+ */
+class TranspositionTableTest {
+    private TranspositionTable table;
+    private TranspositionTable.Entry entry;
+
+    @BeforeEach
+    void setUp() {
+        table = new TranspositionTable(4);
+        entry = new TranspositionTable.Entry();
+    }
+
+    @Test
+    void testStoreAndProbe() {
+        assertFalse(table.probe(42, entry));
+
+        table.store(42, -1234, 5, TranspositionTable.LOWER_BOUND, 17);
+        assertTrue(table.probe(42, entry));
+        assertEquals(-1234, entry.score);
+        assertEquals(5, entry.depth);
+        assertEquals(TranspositionTable.LOWER_BOUND, entry.bound);
+        assertEquals(17, entry.move);
+
+        table.store(43, 0, 1, TranspositionTable.EXACT, -1);
+        assertTrue(table.probe(43, entry));
+        assertEquals(-1, entry.move);
+    }
+
+    @Test
+    void testKeyZeroIsNotFoundInEmptyTable() {
+        assertFalse(table.probe(0, entry));
+    }
+
+    @Test
+    void testDeeperEntryOfSamePositionIsKept() {
+        table.store(42, 10, 6, TranspositionTable.EXACT, 1);
+        table.store(42, 20, 3, TranspositionTable.EXACT, 2);
+        assertTrue(table.probe(42, entry));
+        assertEquals(6, entry.depth);
+
+        // Another position in the same slot always replaces it
+        long other = 42 + table.getSlotCount();
+        table.store(other, 30, 1, TranspositionTable.EXACT, 3);
+        assertFalse(table.probe(42, entry));
+        assertTrue(table.probe(other, entry));
+    }
+
+    @Test
+    void testSideToMoveChangesKey() {
+        PatternTable position = new PatternTable(4, 4);
+        position.place(5, PatternTable.FIRST);
+        assertNotEquals(TranspositionTable.keyOf(position, PatternTable.FIRST),
+                TranspositionTable.keyOf(position, PatternTable.SECOND));
+    }
+
+    @Test
+    void testConcurrentWritersNeverProduceMixedEntries() throws InterruptedException {
+        // Two writers hammer one slot with entries whose score and move always match their key
+        TranspositionTable shared = new TranspositionTable(0);
+        AtomicLong mismatches = new AtomicLong();
+        Thread[] writers = new Thread[2];
+        for (int w = 0; w < writers.length; w++) {
+            long key = w + 1;
+            writers[w] = new Thread(() -> {
+                for (int i = 0; i < 200_000; i++) {
+                    shared.store(key, key * 1000, 1, TranspositionTable.EXACT, (int) key);
+                }
+            });
+        }
+        Thread reader = new Thread(() -> {
+            TranspositionTable.Entry seen = new TranspositionTable.Entry();
+            for (int i = 0; i < 200_000; i++) {
+                for (long key = 1; key <= 2; key++) {
+                    if (shared.probe(key, seen) && (seen.score != key * 1000 || seen.move != key)) {
+                        mismatches.incrementAndGet();
+                    }
+                }
+            }
+        });
+        for (Thread writer : writers) {
+            writer.start();
+        }
+        reader.start();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        reader.join();
+        assertEquals(0, mismatches.get());
+    }
+
+    @Test
+    void testSlotsScaleWithBoard() {
+        assertEquals(12, TranspositionTable.slotBitsFor(1));
+        assertEquals(13, TranspositionTable.slotBitsFor(9));
+        assertEquals(16, TranspositionTable.slotBitsFor(225));
+        // the slots plus a few object headers
+        long slots = new TranspositionTable(13).getSizeInBytes();
+        assertTrue(TranspositionTable.estimateBytes(13) > slots);
+        assertTrue(TranspositionTable.estimateBytes(13) < slots + 100);
+    }
+}
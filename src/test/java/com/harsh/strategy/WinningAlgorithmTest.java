@@ -116,4 +116,21 @@ class WinningAlgorithmTest {
         Move move2 = new Move(cell2, player2);
         assertFalse(algorithm.checkWinner(board, move2));
     }
+
+    @Test
+    void testKInARowWin() {
+        Board bigBoard = new Board(15, 5);
+        Player player = new Player("TestPlayer", new Symbol('X'), PlayerType.HUMAN);
+
+        // Fill (3,3) .. (7,7) out of order; the fifth stone closes the run from the middle
+        int[] order = {3, 4, 6, 7, 5};
+        for (int i = 0; i < order.length; i++) {
+            Cell cell = bigBoard.getBoard().get(order[i]).get(order[i]);
+            cell.setPlayer(player);
+            cell.setCellState(CellState.FILLED);
+            Move move = new Move(cell, player);
+
+            assertEquals(i == order.length - 1, algorithm.checkWinner(bigBoard, move));
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package com.harsh.timer;
+
+import com.harsh.Models.*;
+import com.harsh.controller.GameController;
+import com.harsh.exceptions.InvalidMoveException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for GameTimekeeper class
+ */
+class GameTimekeeperTest {
+    private AtomicLong now;
+    private TimingWheel wheel;
+    private GameTimekeeper timekeeper;
+    private GameController gameController;
+    private List<Player> players;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong();
+        wheel = new TimingWheel(10, now::get);
+        timekeeper = new GameTimekeeper(wheel);
+        gameController = new GameController(timekeeper);
+        players = List.of(
+                new Player("Player1", new Symbol('X'), PlayerType.HUMAN),
+                new Player("Player2", new Symbol('O'), PlayerType.HUMAN)
+        );
+    }
+
+    private void advanceBy(long millis) {
+        for (long t = 0; t < millis; t += 10) {
+            now.addAndGet(10);
+            wheel.advance();
+        }
+    }
+
+    @Test
+    void testMoveLimitForfeitsIdlePlayer() throws InvalidMoveException {
+        List<Game> timedOut = new ArrayList<>();
+        timekeeper.setTimeoutListener(timedOut::add);
+        Game game = gameController.startGame(3, players, 3, new TimeControl(1_000, 0, 0));
+
+        advanceBy(900);
+        gameController.makeMove(game, 1, 1);
+        advanceBy(900);
+        assertEquals(GameState.InProgress, game.getGameState());
+
+        advanceBy(200);
+        assertEquals(GameState.ENDED, game.getGameState());
+        assertEquals(players.get(0), game.getWinner());
+        assertEquals(List.of(game), timedOut);
+        assertEquals(0, timekeeper.getTimedGameCount());
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testClockWithIncrement() throws InvalidMoveException {
+        Game game = gameController.startGame(3, players, 3, new TimeControl(0, 1_000, 500));
+
+        advanceBy(800);
+        gameController.makeMove(game, 0, 0);
+        assertEquals(700, timekeeper.getClock(game).getRemainingMillis(0));
+
+        gameController.makeMove(game, 1, 1);
+        advanceBy(600);
+        assertEquals(GameState.InProgress, game.getGameState());
+        advanceBy(200);
+        assertEquals(GameState.ENDED, game.getGameState());
+        assertEquals(players.get(1), game.getWinner());
+    }
+
+    @Test
+    void testFinishedAndAbandonedGamesStopTiming() throws InvalidMoveException {
+        Game finished = gameController.startGame(3, players, 3, new TimeControl(1_000, 0, 0));
+        int[][] moves = {{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0, 2}};
+        for (int[] move : moves) {
+            gameController.makeMove(finished, move[0], move[1]);
+        }
+        Game abandoned = gameController.startGame(3, players, 3, new TimeControl(1_000, 0, 0));
+        gameController.endGame(abandoned);
+
+        assertEquals(0, timekeeper.getTimedGameCount());
+        assertEquals(0, wheel.getPendingCount());
+        advanceBy(2_000);
+        assertEquals(players.get(0), finished.getWinner());
+        assertEquals(GameState.InProgress, abandoned.getGameState());
+    }
+
+    @Test
+    void testUntimedGamesAreIgnored() {
+        gameController.startGame(3, players, 3, new TimeControl(0, 0, 0));
+        gameController.startGame(3, players);
+        assertEquals(0, timekeeper.getTimedGameCount());
+        assertThrows(IllegalStateException.class,
+                () -> new GameController().startGame(3, players, 3, new TimeControl(1_000, 0, 0)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.harsh.timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for TimingWheel class, driven by a manual clock
+ */
+class TimingWheelTest {
+    private AtomicLong now;
+    private TimingWheel wheel;
+    private List<Long> fired;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(1_000);
+        wheel = new TimingWheel(10, now::get);
+        fired = new ArrayList<>();
+    }
+
+    private void scheduleRecording(long delayMillis) {
+        wheel.schedule(delayMillis, () -> fired.add(now.get() - 1_000));
+    }
+
+    private void advanceBy(long millis, long step) {
+        for (long t = 0; t < millis; t += step) {
+            now.addAndGet(step);
+            wheel.advance();
+        }
+    }
+
+    @Test
+    void testFiresAtDeadlineAcrossLevels() {
+        // 50 ms stays on level 0; 5 s, 100 s and 3 h need one, two and three cascades
+        long[] delays = {50, 5_000, 100_000, 3 * 3_600_000L};
+        for (long delay : delays) {
+            scheduleRecording(delay);
+        }
+        assertEquals(4, wheel.getPendingCount());
+
+        advanceBy(3 * 3_600_000L + 10, 10);
+
+        assertEquals(List.of(50L, 5_000L, 100_000L, 3 * 3_600_000L), fired);
+        assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    void testNeverFiresEarly() {
+        scheduleRecording(15);
+        advanceBy(10, 10);
+        assertTrue(fired.isEmpty());
+        advanceBy(10, 10);
+        assertEquals(List.of(20L), fired);
+    }
+
+    @Test
+    void testLargeClockJumpFiresEverythingDue() {
+        for (long delay = 10; delay <= 100_000; delay *= 10) {
+            scheduleRecording(delay);
+        }
+        now.addAndGet(1_000_000);
+        assertEquals(5, wheel.advance());
+        assertEquals(5, fired.size());
+    }
+
+    @Test
+    void testFailingTaskGoesToHandlerAndOthersStillRun() {
+        List<RuntimeException> errors = new ArrayList<>();
+        wheel.setErrorHandler(errors::add);
+        scheduleRecording(50);
+        wheel.schedule(50, () -> {
+            throw new IllegalStateException("boom");
+        });
+        scheduleRecording(50);
+
+        advanceBy(50, 10);
+        assertEquals(2, fired.size());
+        assertEquals(1, errors.size());
+        assertEquals("boom", errors.get(0).getMessage());
+    }
+
+    @Test
+    void testCancel() {
+        Timeout timeout = wheel.schedule(5_000, () -> fired.add(-1L));
+        scheduleRecording(6_000);
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertTrue(timeout.isCancelled());
+        assertEquals(1, wheel.getPendingCount());
+
+        advanceBy(10_000, 100);
+        assertEquals(List.of(6_000L), fired);
+    }
+
+    @Test
+    void testManyTimeouts() {
+        int count = 50_000;
+        int[] runs = new int[1];
+        for (int i = 0; i < count; i++) {
+            wheel.schedule(1 + (i * 7919L) % 600_000, () -> runs[0]++);
+        }
+        advanceBy(600_010, 1_000);
+        assertEquals(count, runs[0]);
+    }
+}
@@ -0,0 +1,234 @@
+package com.harsh.wire;
+
+import com.harsh.Models.Bot;
+import com.harsh.Models.BotDifficultyLevel;
+import com.harsh.Models.GameRecord;
+import com.harsh.Models.GameState;
+import com.harsh.controller.GameController;
+import com.harsh.server.GameRegistry;
+import com.harsh.strategy.EasyBotPlayingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit tests for WireServer class
+ */
+class WireServerTest {
+    private GameRegistry registry;
+    private WireServer server;
+    private InetSocketAddress address;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = GameRegistry.create(new GameController());
+        server = new WireServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), registry, 2);
+        server.start();
+        address = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void testPipelinedGamesOnOneConnection() throws IOException {
+        try (WireClient client = new WireClient(address)) {
+            WireResponse response = new WireResponse();
+            int first = client.create(3, 3, null);
+            int second = client.create(4, 4, null);
+            assertEquals(first, client.read(response).getRequestId());
+            long firstGame = response.getGameId();
+            assertEquals(second, client.read(response).getRequestId());
+            long secondGame = response.getGameId();
+
+            // X takes the top row of the first game while the second game is played alongside
+            int[][] moves = {{0, 0}, {1, 0}, {0, 1}, {1, 1}, {0, 2}};
+            for (int[] move : moves) {
+                client.move(firstGame, move[0], move[1]);
+                client.move(secondGame, move[0], move[1]);
+            }
+            for (int i = 0; i < moves.length; i++) {
+                assertTrue(client.read(response).isOk());
+                assertEquals(i + 1, response.getMoveCount());
+                assertEquals(i < moves.length - 1 ? GameState.InProgress : GameState.ENDED, response.getGameState());
+                assertTrue(client.read(response).isOk());
+                assertEquals(GameState.InProgress, response.getGameState());
+            }
+            assertEquals(1, response.getNextPlayerIndex());
+
+            client.getState(secondGame);
+            GameRecord record = client.read(response).getGame();
+            assertEquals(4, record.getDimension());
+            assertArrayEquals(new int[]{0, 4, 1, 5, 2}, record.getMoves());
+
+            int delete = client.delete(secondGame);
+            assertEquals(delete, client.read(response).getRequestId());
+            assertTrue(response.isOk());
+            assertNull(registry.getGame(secondGame));
+        }
+    }
+
+    @Test
+    void testErrorsAreTaggedWithTheirRequest() throws IOException {
+        try (WireClient client = new WireClient(address)) {
+            WireResponse response = new WireResponse();
+            client.create(3, 3, null);
+            long gameId = client.read(response).getGameId();
+
+            client.move(gameId, 1, 1);
+            int occupied = client.move(gameId, 1, 1);
+            int missing = client.move(gameId + 100, 0, 0);
+            int badSize = client.create(0, 3, null);
+            int unknown = client.getState(gameId + 100);
+            assertTrue(client.read(response).isOk());
+            assertEquals(occupied, client.read(response).getRequestId());
+            assertEquals(WireProtocol.ILLEGAL_MOVE, response.getStatus());
+            assertFalse(response.getMessage().isEmpty());
+            assertEquals(missing, client.read(response).getRequestId());
+            assertEquals(WireProtocol.NOT_FOUND, response.getStatus());
+            assertEquals(badSize, client.read(response).getRequestId());
+            assertEquals(WireProtocol.BAD_REQUEST, response.getStatus());
+            assertEquals(unknown, client.read(response).getRequestId());
+            assertEquals(WireProtocol.NOT_FOUND, response.getStatus());
+        }
+    }
+
+    @Test
+    void testBotRepliesInTheMoveResponse() throws IOException {
+        try (WireClient client = new WireClient(address)) {
+            WireResponse response = new WireResponse();
+            client.create(3, 3, BotDifficultyLevel.EASY);
+            long gameId = client.read(response).getGameId();
+
+            client.move(gameId, 1, 1);
+            assertTrue(client.read(response).isOk());
+            assertEquals(2, response.getMoveCount());
+            assertEquals(0, response.getNextPlayerIndex());
+            assertTrue(response.getBotCell() >= 0 && response.getBotCell() != 4);
+        }
+    }
+
+    @Test
+    void testThinkingBotHoldsUpOnlyItsConnection() throws Exception {
+        // One loop, so both connections share it
+        WireServer oneLoop = new WireServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), registry, 1);
+        oneLoop.start();
+        InetSocketAddress oneLoopAddress = new InetSocketAddress(InetAddress.getLoopbackAddress(), oneLoop.getPort());
+        CountDownLatch thinking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (WireClient botClient = new WireClient(oneLoopAddress);
+             WireClient other = new WireClient(oneLoopAddress)) {
+            WireResponse response = new WireResponse();
+            botClient.create(3, 3, BotDifficultyLevel.EASY);
+            long botGame = botClient.read(response).getGameId();
+            EasyBotPlayingStrategy easy = new EasyBotPlayingStrategy();
+            ((Bot) registry.getGame(botGame).getPlayers().get(1)).setBotPlayingStrategy((board, player) -> {
+                thinking.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return easy.makeMove(board, player);
+            });
+
+            int move = botClient.move(botGame, 1, 1);
+            int state = botClient.getState(botGame);
+            botClient.flush();
+            assertTrue(thinking.await(5, TimeUnit.SECONDS));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                WireResponse otherResponse = new WireResponse();
+                other.create(3, 3, null);
+                long gameId = other.read(otherResponse).getGameId();
+                other.move(gameId, 0, 0);
+                assertTrue(other.read(otherResponse).isOk());
+                assertEquals(1, otherResponse.getMoveCount());
+            });
+
+            release.countDown();
+            assertEquals(move, botClient.read(response).getRequestId());
+            assertEquals(2, response.getMoveCount());
+            assertEquals(0, response.getBotCell());
+            // Asked after the move, answered after it, and sees the bot's reply
+            assertEquals(state, botClient.read(response).getRequestId());
+            assertEquals(2, response.getGame().getMoves().length);
+        } finally {
+            release.countDown();
+            oneLoop.stop();
+        }
+    }
+
+    @Test
+    void testMemoryBudgetRefusesGames() throws IOException {
+        registry.setMemoryBudgetBytes(1);
+        try (WireClient client = new WireClient(address)) {
+            client.create(3, 3, null);
+            assertEquals(WireProtocol.SERVER_FULL, client.read(new WireResponse()).getStatus());
+        }
+        assertEquals(0, registry.getGameCount());
+    }
+
+    @Test
+    void testClosingConnectionDeletesItsGames() throws Exception {
+        long kept;
+        try (WireClient other = new WireClient(address)) {
+            WireResponse response = new WireResponse();
+            other.create(3, 3, null);
+            kept = other.read(response).getGameId();
+
+            try (WireClient client = new WireClient(address)) {
+                client.create(3, 3, null);
+                client.create(4, 4, BotDifficultyLevel.EASY);
+                client.read(response);
+                client.read(response);
+                assertEquals(3, registry.getGameCount());
+            }
+            awaitGameCount(1);
+            assertNotNull(registry.getGame(kept));
+        }
+        awaitGameCount(0);
+    }
+
+    private void awaitGameCount(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (registry.getGameCount() > count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, registry.getGameCount());
+    }
+
+    @Test
+    void testBadFrameClosesConnection() throws IOException {
+        try (Socket socket = new Socket(address.getAddress(), address.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(new byte[]{0, 0, 0, 1, 0});
+            out.flush();
+            socket.setSoTimeout(5_000);
+            InputStream in = socket.getInputStream();
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void testBenchmarkPlaysEveryMove() throws IOException {
+        WireBenchmarkResult result = new WireBenchmark(address, 50, 4, 10_000).run();
+        assertEquals(10_000, result.getMoves());
+        assertTrue(result.getGamesCompleted() > 0);
+        assertTrue(result.getMovesPerSecond() > 0);
+        assertEquals(0, registry.getGameCount());
+    }
+}